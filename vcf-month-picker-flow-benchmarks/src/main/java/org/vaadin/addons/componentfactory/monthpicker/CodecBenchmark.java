@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing and formatting of the {@code value} property, i.e. the parser and formatter of
+ * {@link MonthPicker}, compared to {@link YearMonth#parse(CharSequence)} and
+ * {@link YearMonth#toString()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+  private final String value = "2025-07";
+
+  private final YearMonth yearMonth = YearMonth.of(2025, 7);
+
+  @Benchmark
+  public YearMonth parse() {
+    return YearMonthCodec.parse(value);
+  }
+
+  @Benchmark
+  public YearMonth parseJdk() {
+    return YearMonth.parse(value);
+  }
+
+  @Benchmark
+  public String format() {
+    return YearMonthCodec.format(yearMonth);
+  }
+
+  @Benchmark
+  public String formatJdk() {
+    return yearMonth.toString();
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Building the JSON representation of i18n settings, as done when the settings of a picker are
+ * written to the element.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class I18nJsonBenchmark {
+
+  private final MonthPickerI18n i18n =
+      MonthPickerI18n.forLocale(Locale.GERMAN).setFormats("MM.YYYY", "MM/YYYY");
+
+  private final MonthPickerI18n shared =
+      MonthPickerTemplate.builder().seti18n(i18n).build().getI18n();
+
+  /**
+   * Lookup of settings whose JSON is already cached.
+   */
+  @Benchmark
+  public ObjectNode cached() {
+    return MonthPicker.getI18nJsonObject(i18n);
+  }
+
+  /**
+   * Serialization of settings that are not cached.
+   */
+  @Benchmark
+  public ObjectNode uncached() {
+    MonthPicker.I18N_JSON_CACHE.clear();
+    return MonthPicker.getI18nJsonObject(i18n);
+  }
+
+  /**
+   * Settings shared through a {@link MonthPickerTemplate}, which hold their JSON.
+   */
+  @Benchmark
+  public ObjectNode template() {
+    return MonthPicker.getI18nJsonObject(shared);
+  }
+}
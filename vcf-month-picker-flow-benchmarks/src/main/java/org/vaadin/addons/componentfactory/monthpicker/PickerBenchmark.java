@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import java.time.YearMonth;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.internal.nodefeature.ElementPropertyMap;
+import com.vaadin.flow.internal.nodefeature.PropertyChangeDeniedException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
+
+/**
+ * Construction of pickers attached to a {@link UI} and value round trips between the server and
+ * the (simulated) client.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PickerBenchmark {
+
+  private static final MonthPickerTemplate TEMPLATE = MonthPickerTemplate.builder()
+      .setLabel("Month").setMinYear(2000).setMaxYear(2099).setClearButtonVisible(true)
+      .seti18n(MonthPickerI18n.forLocale(Locale.GERMAN).setFormat("MM.YYYY")).build();
+
+  @Param({"1", "100"})
+  public int pickers;
+
+  private UI ui;
+
+  private MonthPicker picker;
+
+  private int month;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    ui = new UI();
+    UI.setCurrent(ui);
+    picker = new MonthPicker();
+    ui.add(picker);
+    for (int i = 1; i < pickers; i++) {
+      ui.add(new MonthPicker());
+    }
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() {
+    UI.setCurrent(null);
+  }
+
+  /**
+   * Creates the pickers with individually set i18n settings, attaches them and writes the pending
+   * changes as for a response.
+   */
+  @Benchmark
+  public void construct(Blackhole blackhole) {
+    UI target = new UI();
+    for (int i = 0; i < pickers; i++) {
+      MonthPicker created = new MonthPicker();
+      created.setLabel("Month");
+      created.setMinYear(2000);
+      created.setMaxYear(2099);
+      created.setClearButtonVisible(true);
+      created.seti18n(MonthPickerI18n.forLocale(Locale.GERMAN).setFormat("MM.YYYY"));
+      target.add(created);
+    }
+    target.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+    blackhole.consume(target);
+  }
+
+  /**
+   * Creates the pickers from a shared template, attaches them and writes the pending changes as
+   * for a response.
+   */
+  @Benchmark
+  public void constructFromTemplate(Blackhole blackhole) {
+    UI target = new UI();
+    for (int i = 0; i < pickers; i++) {
+      target.add(TEMPLATE.create());
+    }
+    target.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+    blackhole.consume(target);
+  }
+
+  /**
+   * Sets a value on the server and applies the next value as if it was sent from the client, in a
+   * UI holding the given number of pickers.
+   */
+  @Benchmark
+  public YearMonth valueRoundTrip() throws PropertyChangeDeniedException {
+    month = month % 11 + 1;
+    picker.setValue(YearMonth.of(2025, month));
+    picker.getElement().getNode().getFeature(ElementPropertyMap.class)
+        .deferredUpdateFromClient("value", YearMonthCodec.format(YearMonth.of(2025, month + 1)))
+        .run();
+    return picker.getValue();
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.YearMonth;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import com.vaadin.flow.component.UI;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
+
+/**
+ * Java serialization of a {@link UI} holding pickers, as done for session replication. The size of
+ * the serialized UI is reported as the {@code serializedBytes} counter of {@link #serialize}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+  @Param({"10", "100"})
+  public int pickers;
+
+  private UI ui;
+
+  private byte[] serialized;
+
+  @Setup
+  public void setUp() throws IOException {
+    ui = new UI();
+    UI.setCurrent(ui);
+    for (int i = 0; i < pickers; i++) {
+      MonthPicker picker = new MonthPicker(YearMonth.of(2025, i % 12 + 1));
+      picker.setLabel("Month " + i);
+      picker.seti18n(MonthPickerI18n.forLocale(Locale.GERMAN).setFormat("MM.YYYY"));
+      ui.add(picker);
+    }
+    ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+    serialized = writeUi();
+  }
+
+  @TearDown
+  public void tearDown() {
+    UI.setCurrent(null);
+  }
+
+  @Benchmark
+  public byte[] serialize(SerializedSize size) throws IOException {
+    byte[] bytes = writeUi();
+    size.record(bytes.length);
+    return bytes;
+  }
+
+  @Benchmark
+  public Object deserialize() throws IOException, ClassNotFoundException {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+      return in.readObject();
+    }
+  }
+
+  private byte[] writeUi() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(ui);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Size of the serialized UI, reported as a secondary result of {@link #serialize}. JMH sums event
+   * counters over the iterations, so the size is only recorded in the last measurement iteration.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class SerializedSize {
+
+    /**
+     * Size of the serialized UI in bytes.
+     */
+    public long serializedBytes;
+
+    private int measurementIterations;
+
+    private boolean recording;
+
+    @Setup(Level.Iteration)
+    public void startIteration(IterationParams iteration) {
+      serializedBytes = 0;
+      recording = iteration.getType() == IterationType.MEASUREMENT
+          && ++measurementIterations == iteration.getCount();
+    }
+
+    private void record(int bytes) {
+      if (recording) {
+        serializedBytes = bytes;
+      }
+    }
+  }
+}
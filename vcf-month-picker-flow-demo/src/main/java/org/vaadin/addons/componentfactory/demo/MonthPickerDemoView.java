@@ -18,11 +18,10 @@ import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.router.Route;
 import org.vaadin.addons.componentfactory.demo.helpers.SpringDemoView;
 import org.vaadin.addons.componentfactory.monthpicker.MonthPicker;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPickerDisplay;
 import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
 
-import java.time.Month;
 import java.time.YearMonth;
-import java.time.format.TextStyle;
 import java.util.Arrays;
 import java.util.Locale;
 
@@ -144,12 +143,17 @@ public class MonthPickerDemoView extends SpringDemoView {
         disabledMonthPicker.setValue(YearMonth.of(2019, 6));
         disabledMonthPicker.setEnabled(false);
 
+        // Renders the value as plain text, without loading the month picker web component
+        MonthPickerDisplay monthPickerDisplay = new MonthPickerDisplay(YearMonth.of(2019, 6),
+                MonthPickerI18n.forLocale(Locale.ENGLISH).setFormat("MMMM YYYY"));
+
         // end-source-example
 
         readonlyMonthPicker.setId("readonly-month-picker");
         disabledMonthPicker.setId("disabled-month-picker");
+        monthPickerDisplay.setId("month-picker-display");
 
-        addCard("Read-Only & Disabled", readonlyMonthPicker, disabledMonthPicker);
+        addCard("Read-Only & Disabled", readonlyMonthPicker, disabledMonthPicker, monthPickerDisplay);
     }
 
     private void createInternalizedMonthPickerDemo() {
@@ -231,13 +235,7 @@ public class MonthPickerDemoView extends SpringDemoView {
         );
 
         // This i18n setting is needed, when short month name parsing and formatting is used.
-        shortMonthNameI18n.setShortMonthNames(
-                Arrays.asList(Arrays.stream(Month.values())
-                        .map(m -> m.getDisplayName(TextStyle.FULL, Locale.ENGLISH))
-                        .map(s -> s.substring(0, 3))
-                        .toArray(String[]::new))
-        );
-
+        shortMonthNameI18n.setShortMonthNames(MonthPickerI18n.forLocale(Locale.ENGLISH).getShortMonthNames());
 
         initMonthNames(shortMonthNameI18n);
 
@@ -296,16 +294,9 @@ public class MonthPickerDemoView extends SpringDemoView {
      * @param i18n instance to init
      */
     private void initMonthNames(MonthPickerI18n i18n) {
-        i18n.setMonthNames(
-                Arrays.asList(Arrays.stream(Month.values())
-                        .map(m -> m.getDisplayName(TextStyle.FULL, Locale.ENGLISH))
-                        .toArray(String[]::new))
-        );
-        i18n.setMonthLabels(
-                Arrays.asList(Arrays.stream(Month.values())
-                        .map(m -> m.getDisplayName(TextStyle.SHORT, Locale.ENGLISH))
-                        .toArray(String[]::new))
-        );
+        MonthPickerI18n english = MonthPickerI18n.forLocale(Locale.ENGLISH);
+        i18n.setMonthNames(english.getMonthNames());
+        i18n.setMonthLabels(english.getMonthLabels());
     }
 
     // begin-source-example
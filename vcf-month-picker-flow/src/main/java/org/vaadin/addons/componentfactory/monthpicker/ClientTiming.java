@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A timing measured by a {@link MonthPicker} in the browser, see
+ * {@link MonthPicker#addClientTimingsListener(com.vaadin.flow.component.ComponentEventListener)}.
+ */
+public final class ClientTiming implements Serializable {
+
+  /**
+   * The kind of a measured timing.
+   */
+  public enum Type {
+    /**
+     * From the instrumentation being installed in the browser until the web component has
+     * finished its first rendering. A listener registered before the picker is attached is
+     * installed with the response that attaches the picker; the rendering is not measured if it
+     * has already happened when the instrumentation is installed.
+     */
+    FIRST_RENDER("first-render"),
+
+    /**
+     * From the overlay being opened until the next frame after its rendering has been painted.
+     */
+    OVERLAY_OPEN("overlay-open"),
+
+    /**
+     * From committing typed input (Enter or leaving the field) until the parsed value is set.
+     */
+    INPUT_COMMIT("input-commit");
+
+    private final String clientName;
+
+    Type(String clientName) {
+      this.clientName = clientName;
+    }
+
+    /**
+     * Returns the type with the given name used in the browser.
+     *
+     * @param clientName the name
+     * @return the type, or {@code null} if the name is unknown
+     */
+    static Type forClientName(String clientName) {
+      for (Type type : values()) {
+        if (type.clientName.equals(clientName)) {
+          return type;
+        }
+      }
+      return null;
+    }
+  }
+
+  private final Type type;
+  private final double millis;
+
+  ClientTiming(Type type, double millis) {
+    this.type = Objects.requireNonNull(type);
+    this.millis = millis;
+  }
+
+  /**
+   * Returns what has been measured.
+   *
+   * @return the type of the timing
+   */
+  public Type getType() {
+    return type;
+  }
+
+  /**
+   * Returns the measured duration.
+   *
+   * @return the duration in milliseconds, with sub-millisecond precision if the browser provides it
+   */
+  public double getMillis() {
+    return millis;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof ClientTiming other && type == other.type && millis == other.millis;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * type.hashCode() + Double.hashCode(millis);
+  }
+
+  @Override
+  public String toString() {
+    return type + "=" + millis + "ms";
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Small, thread-safe, size-bounded cache that evicts the least recently used entry once the
+ * maximum size is exceeded.
+ * <p>
+ * Used for process-wide caches of values derived from immutable configuration (e.g. serialized
+ * i18n objects), so that identical configurations are only computed once.
+ * <p>
+ * Entries are held strongly and bounded by size only. The keys are content snapshots that nothing
+ * but the cache refers to, so weak keys would be cleared right away; the size bound alone limits
+ * the retained memory.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class LruCache<K, V> implements Serializable {
+
+  private final int maxSize;
+  private final LinkedHashMap<K, V> entries;
+
+  /**
+   * Creates a new cache with the given maximum number of entries.
+   *
+   * @param maxSize the maximum number of entries, must be positive
+   */
+  LruCache(int maxSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("The maximum cache size must be positive");
+    }
+    this.maxSize = maxSize;
+    this.entries = new BoundedMap<>(maxSize);
+  }
+
+  /**
+   * Returns the value cached for the given key.
+   *
+   * @param key the key to look up
+   * @return the cached value or {@code null} if there is none
+   */
+  synchronized V get(K key) {
+    return entries.get(key);
+  }
+
+  /**
+   * Caches the given value, unless another value has been cached for an equal key in the meantime.
+   *
+   * @param key the key, which must not be modified afterwards
+   * @param value the value to cache
+   * @return the value that ends up being cached for the key
+   */
+  synchronized V putIfAbsent(K key, V value) {
+    V existing = entries.putIfAbsent(key, value);
+    return existing != null ? existing : value;
+  }
+
+  /**
+   * Removes all cached entries.
+   */
+  synchronized void clear() {
+    entries.clear();
+  }
+
+  /**
+   * Returns the number of cached entries.
+   *
+   * @return the number of entries
+   */
+  synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Returns the maximum number of entries this cache retains.
+   *
+   * @return the maximum size
+   */
+  int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Access ordered map that removes its eldest entry once it holds more than the maximum number of
+   * entries.
+   */
+  private static final class BoundedMap<K, V> extends LinkedHashMap<K, V> {
+    private final int maxSize;
+
+    private BoundedMap(int maxSize) {
+      super(16, 0.75f, true);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+      return size() > maxSize;
+    }
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import java.io.Serializable;
+
+/**
+ * Server-side validator of the months that can be selected in a {@link MonthPicker}, queried one
+ * year at a time.
+ * <p>
+ * The picker only queries the year of a value that is checked, e.g. when a value of that year is
+ * entered on the client. The results are cached by the picker, see
+ * {@link MonthPicker#refreshAvailability()}. The availability is only used to reject values on the
+ * server: nothing is prefetched or sent to the client, and the overlay of the web component does
+ * not disable unavailable months.
+ * </p>
+ *
+ * @see MonthPicker#setAvailabilityValidator(MonthAvailabilityValidator)
+ */
+@FunctionalInterface
+public interface MonthAvailabilityValidator extends Serializable {
+
+  /**
+   * Mask of all twelve months of a year.
+   */
+  int ALL_MONTHS = 0xFFF;
+
+  /**
+   * Returns the months of the given year that are available, as a bitmask in which the lowest bit
+   * represents January and bit 11 represents December. Higher bits are ignored.
+   *
+   * @param year the year
+   * @return the mask of available months, {@code 0} if no month is available
+   */
+  int getAvailableMonths(int year);
+}
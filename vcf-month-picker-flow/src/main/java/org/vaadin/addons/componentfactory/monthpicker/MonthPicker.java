@@ -13,22 +13,38 @@
  */
 package org.vaadin.addons.componentfactory.monthpicker;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.time.Month;
 import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.time.format.TextStyle;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.stream.Stream;
 import com.vaadin.flow.component.*;
 import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.dependency.NpmPackage;
+import com.vaadin.flow.component.page.Inline;
 import com.vaadin.flow.component.shared.HasAutoOpen;
 import com.vaadin.flow.component.shared.HasClearButton;
 import com.vaadin.flow.component.shared.HasTooltip;
+import com.vaadin.flow.data.value.HasValueChangeMode;
+import com.vaadin.flow.data.value.ValueChangeMode;
+import com.vaadin.flow.dom.DomListenerRegistration;
 import com.vaadin.flow.function.SerializableFunction;
+import com.vaadin.flow.internal.nodefeature.ElementPropertyMap;
+import com.vaadin.flow.server.AppShellSettings;
 import com.vaadin.flow.shared.Registration;
 import jakarta.annotation.Nullable;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.ArrayNode;
 import tools.jackson.databind.node.JsonNodeFactory;
 import tools.jackson.databind.node.ObjectNode;
@@ -46,23 +62,116 @@ import tools.jackson.databind.node.ObjectNode;
  * displaying the selected year-month.
  * </p>
  * 
+ * <p>
+ * The web component is loaded with the application bundle. Applications that rarely show a month
+ * picker can defer loading it until a picker is first attached, see
+ * {@link #enableLazyLoading(AppShellSettings)}.
+ * </p>
+ * 
  * @see MonthPickerI18n
  */
 @Tag("vcf-month-picker")
 @NpmPackage(value = "@vaadin-component-factory/vcf-month-picker", version = "3.1.1")
-@JsModule("@vaadin-component-factory/vcf-month-picker/dist/src/vcf-month-picker.js")
+@JsModule("./vcf-month-picker-loader.js")
 public class MonthPicker extends AbstractSinglePropertyField<MonthPicker, YearMonth>
     implements HasLabel, HasAutoOpen, HasClearButton, HasPlaceholder, HasHelper, HasValidation,
-    HasTooltip, Focusable<MonthPicker> {
+    HasTooltip, HasValueChangeMode, Focusable<MonthPicker> {
+
+  private final static SerializableFunction<String, YearMonth> PARSER = YearMonthCodec::parse;
+
+  private final static SerializableFunction<YearMonth, String> FORMATTER = YearMonthCodec::format;
+
+  /**
+   * Maximum number of distinct i18n configurations whose JSON representation is kept in
+   * {@link #I18N_JSON_CACHE}.
+   */
+  static final int I18N_JSON_CACHE_SIZE = 64;
+
+  /**
+   * Process-wide cache of serialized i18n objects, keyed by the content of the i18n configuration.
+   * The cached nodes are shared by all pickers using an equal configuration and must never be
+   * modified.
+   */
+  static final LruCache<List<List<String>>, ObjectNode> I18N_JSON_CACHE =
+      new LruCache<>(I18N_JSON_CACHE_SIZE);
+
+  /**
+   * Maximum number of years whose availability is cached per picker.
+   */
+  static final int AVAILABILITY_CACHE_SIZE = 16;
+
+  private static final String VALUE_EVENT_DATA = "element.value";
+
+  private static final String OPENED_EVENT_DATA = "element.opened";
+
+  /**
+   * The default interval in milliseconds in which client timings are sent to the server.
+   */
+  public static final int DEFAULT_CLIENT_TIMINGS_INTERVAL = 10000;
+
+  /**
+   * Instruments the element to measure timings, see {@code vcf-month-picker-timings.js}. Running
+   * the script again only updates the batch interval given as {@code $0}.
+   */
+  private static final String CLIENT_TIMINGS_SCRIPT =
+      "window.Vaadin.vcfMonthPicker.startTimings(this, $0)";
+
+  private static final String STOP_CLIENT_TIMINGS_SCRIPT =
+      "window.Vaadin.vcfMonthPicker.stopTimings(this)";
+
+  private static final String LOAD_MODULE_SCRIPT = "window.Vaadin.vcfMonthPicker.load()";
+
+  /**
+   * Key of the UI data marking that the web component has been requested to be loaded.
+   */
+  private static final String MODULE_REQUESTED = "vcf-month-picker-module-requested";
+
+  private static volatile boolean lazyLoading;
 
-  private final static SerializableFunction<String, YearMonth> PARSER =
-          s -> s == null || s.isEmpty() ? null : YearMonth.parse(s);
+  private static final int NO_MIN = Integer.MIN_VALUE;
 
-  private final static SerializableFunction<YearMonth, String> FORMATTER =
-          ym -> ym == null ? "" : ym.toString();
+  private static final int NO_MAX = Integer.MAX_VALUE;
 
   private MonthPickerI18n i18n;
 
+  /**
+   * Whether the i18n settings have been changed since they were last written to the element.
+   */
+  private boolean i18nFlushPending;
+
+  /**
+   * The value synchronization settings, or {@code null} while the defaults are used.
+   */
+  private ValueSync valueSync;
+
+  /**
+   * The minimum selectable month in its packed form, see {@link YearMonthCodec}. The minimum year
+   * is derived from it.
+   */
+  private int min = NO_MIN;
+
+  /**
+   * The maximum selectable month in its packed form, see {@link YearMonthCodec}. The maximum year
+   * is derived from it.
+   */
+  private int max = NO_MAX;
+
+  /**
+   * Whether the field has been marked invalid because of an out of range or unavailable value from
+   * the client.
+   */
+  private boolean rejected;
+
+  /**
+   * The availability validator and its cache, or {@code null} if no validator is set.
+   */
+  private Availability availability;
+
+  /**
+   * The synchronization of the opened state, or {@code null} while it is not synchronized.
+   */
+  private OpenedStateSync openedSync;
+
   /**
    * Creates an empty MonthPicker instance with no initial value.
    */
@@ -79,6 +188,76 @@ public class MonthPicker extends AbstractSinglePropertyField<MonthPicker, YearMo
     super("value", initialYearMonth, String.class, PARSER, FORMATTER);
   }
 
+  /**
+   * Enables lazy loading of the web component: instead of loading it with the application bundle,
+   * it is loaded when the first picker or {@link MonthPickerColumns month picker column} is
+   * attached to a UI. Until then, pickers are shown as empty placeholders of the size of a field.
+   * <p>
+   * Frontend modules are bundled at build time, and by default the web component is imported
+   * statically by {@code vcf-month-picker-loader.js}. Lazy loading therefore also requires the
+   * application to replace that module with the lazy loader of the add-on, by adding a file named
+   * {@code vcf-month-picker-loader.js} with the following content to its frontend folder:
+   *
+   * <pre>
+   * import './generated/jar-resources/vcf-month-picker-lazy-loader.js';
+   * </pre>
+   *
+   * Then call this method from
+   * {@link com.vaadin.flow.component.page.AppShellConfigurator#configurePage(AppShellSettings)}:
+   *
+   * <pre>
+   * public void configurePage(AppShellSettings settings) {
+   *   MonthPicker.enableLazyLoading(settings);
+   * }
+   * </pre>
+   *
+   * Without this call, the lazy loader loads the web component right away.
+   *
+   * @param settings the settings of the page being configured
+   */
+  public static void enableLazyLoading(AppShellSettings settings) {
+    setLazyLoading(true);
+    settings.addInlineWithContents(Inline.Position.PREPEND,
+        "window.vcfMonthPickerLazyLoading = true;", Inline.Wrapping.JAVASCRIPT);
+  }
+
+  /**
+   * Returns whether the web component is loaded lazily.
+   *
+   * @return {@code true} if lazy loading is enabled, {@code false} otherwise
+   * @see #enableLazyLoading(AppShellSettings)
+   */
+  public static boolean isLazyLoading() {
+    return lazyLoading;
+  }
+
+  static void setLazyLoading(boolean lazyLoading) {
+    MonthPicker.lazyLoading = lazyLoading;
+  }
+
+  /**
+   * Requests the web component to be loaded when the first picker is attached to a UI, if lazy
+   * loading is enabled.
+   */
+  @Override
+  protected void onAttach(AttachEvent attachEvent) {
+    super.onAttach(attachEvent);
+    requestModule(attachEvent.getUI());
+  }
+
+  /**
+   * Requests the web component to be loaded in the given UI if lazy loading is enabled. The request
+   * is sent only once per UI.
+   *
+   * @param ui the UI
+   */
+  static void requestModule(UI ui) {
+    if (lazyLoading && ComponentUtil.getData(ui, MODULE_REQUESTED) == null) {
+      ComponentUtil.setData(ui, MODULE_REQUESTED, Boolean.TRUE);
+      ui.getPage().executeJs(LOAD_MODULE_SCRIPT);
+    }
+  }
+
   @Override
   public void setErrorMessage(String errorMessage) {
     getElement().setProperty("errorMessage", errorMessage);
@@ -91,6 +270,8 @@ public class MonthPicker extends AbstractSinglePropertyField<MonthPicker, YearMo
 
   @Override
   public void setInvalid(boolean invalid) {
+    // the application takes over the validity, a later accepted value must not reset it
+    rejected = false;
     getElement().setProperty("invalid", invalid);
     if (!invalid) {
       getElement().setProperty("errorMessage", "");
@@ -104,62 +285,535 @@ public class MonthPicker extends AbstractSinglePropertyField<MonthPicker, YearMo
 
   /**
    * Sets the minimum selectable year in the month picker.
+   * <p>
+   * Values before January of that year that are entered on the client are rejected: the field is
+   * marked invalid and no value change event is fired.
    *
    * @param minYear the minimum year
    */
   public void setMinYear(int minYear) {
+    this.min = YearMonthCodec.pack(minYear, 1);
     getElement().setProperty("minYear", String.valueOf(minYear));
   }
 
   /**
    * Gets the minimum selectable year.
    *
-   * @return the minimum year
+   * @return the minimum year, or {@code 0} if not set
    */
   public int getMinYear() {
-    return Optional.ofNullable(getElement().getProperty("minYear")).map(Integer::valueOf).orElse(0);
+    return min == NO_MIN ? 0 : YearMonthCodec.getYear(min);
   }
 
   /**
    * Sets the maximum selectable year in the month picker.
+   * <p>
+   * Values after December of that year that are entered on the client are rejected: the field is
+   * marked invalid and no value change event is fired.
    *
    * @param maxYear the maximum year
    */
   public void setMaxYear(int maxYear) {
+    this.max = YearMonthCodec.pack(maxYear, 12);
     getElement().setProperty("maxYear", String.valueOf(maxYear));
   }
 
   /**
    * Gets the maximum selectable year.
    *
-   * @return the maximum year
+   * @return the maximum year, or {@code 0} if not set
    */
   public int getMaxYear() {
-    return Optional.ofNullable(getElement().getProperty("maxYear")).map(Integer::valueOf).orElse(0);
+    return max == NO_MAX ? 0 : YearMonthCodec.getYear(max);
+  }
+
+  /**
+   * Sets the minimum selectable month. The overlay restricts the selection to the year of the given
+   * month, values before the given month that are entered on the client are rejected: the field is
+   * marked invalid and no value change event is fired.
+   *
+   * @param min the minimum month, or {@code null} to remove the restriction
+   */
+  public void setMin(@Nullable YearMonth min) {
+    if (min == null) {
+      this.min = NO_MIN;
+      getElement().removeProperty("minYear");
+    } else {
+      setMinYear(min.getYear());
+      this.min = YearMonthCodec.pack(min);
+    }
+  }
+
+  /**
+   * Gets the minimum selectable month.
+   *
+   * @return the minimum month, or {@code null} if not set
+   */
+  public YearMonth getMin() {
+    return min == NO_MIN ? null : YearMonthCodec.unpack(min);
+  }
+
+  /**
+   * Sets the maximum selectable month. The overlay restricts the selection to the year of the given
+   * month, values after the given month that are entered on the client are rejected: the field is
+   * marked invalid and no value change event is fired.
+   *
+   * @param max the maximum month, or {@code null} to remove the restriction
+   */
+  public void setMax(@Nullable YearMonth max) {
+    if (max == null) {
+      this.max = NO_MAX;
+      getElement().removeProperty("maxYear");
+    } else {
+      setMaxYear(max.getYear());
+      this.max = YearMonthCodec.pack(max);
+    }
+  }
+
+  /**
+   * Gets the maximum selectable month.
+   *
+   * @return the maximum month, or {@code null} if not set
+   */
+  public YearMonth getMax() {
+    return max == NO_MAX ? null : YearMonthCodec.unpack(max);
+  }
+
+  /**
+   * Returns whether the given value is within the minimum and maximum of this picker. An empty
+   * value is always within range.
+   *
+   * @param value the value to check
+   * @return {@code true} if the value is empty or within range, {@code false} otherwise
+   */
+  public boolean isWithinRange(@Nullable YearMonth value) {
+    if (value == null) {
+      return true;
+    }
+    // values from the client may be outside the range of packed int values
+    long packed = YearMonthCodec.packExtended(value);
+    return packed >= min && packed <= max;
+  }
+
+  /**
+   * Sets the server-side validator of the months that can be selected. The validator is queried
+   * lazily, one year at a time, when a value of that year entered on the client or passed to
+   * {@link #isAvailable(YearMonth)} is checked. Results are cached per year, see
+   * {@link #refreshAvailability()}.
+   * <p>
+   * The validation happens on the server only: the web component has no notion of unavailable
+   * months, so the overlay still offers them and nothing is sent to the client in advance.
+   * Unavailable values that are entered on the client are rejected: the field is marked invalid and
+   * no value change event is fired.
+   *
+   * @param availabilityValidator the validator, or {@code null} to make all months within range
+   *        available
+   */
+  public void setAvailabilityValidator(@Nullable MonthAvailabilityValidator availabilityValidator) {
+    availability = availabilityValidator != null ? new Availability(availabilityValidator) : null;
+  }
+
+  /**
+   * Returns the server-side validator of the months that can be selected.
+   *
+   * @return the validator, or {@code null} if not set
+   */
+  public MonthAvailabilityValidator getAvailabilityValidator() {
+    return availability != null ? availability.validator : null;
+  }
+
+  /**
+   * Discards the cached availability, so that the validator is queried again when a value is
+   * checked next. Call this when the data behind the validator has changed.
+   */
+  public void refreshAvailability() {
+    if (availability != null) {
+      availability.masks.clear();
+    }
+  }
+
+  /**
+   * Returns whether the given value can be selected, i.e. whether it is within range and available
+   * according to the {@link #setAvailabilityValidator(MonthAvailabilityValidator) availability
+   * validator}. An empty value is always selectable.
+   *
+   * @param value the value to check
+   * @return {@code true} if the value is empty or selectable, {@code false} otherwise
+   */
+  public boolean isAvailable(@Nullable YearMonth value) {
+    if (value == null) {
+      return true;
+    }
+    return isWithinRange(value)
+        && (getAvailableMonths(value.getYear()) & (1 << (value.getMonthValue() - 1))) != 0;
+  }
+
+  /**
+   * Returns the availability mask of the given year, querying the validator if it is not cached.
+   */
+  private int getAvailableMonths(int year) {
+    if (availability == null) {
+      return MonthAvailabilityValidator.ALL_MONTHS;
+    }
+    Integer mask = availability.masks.get(year);
+    if (mask == null) {
+      mask = availability.masks.putIfAbsent(year,
+          availability.validator.getAvailableMonths(year) & MonthAvailabilityValidator.ALL_MONTHS);
+    }
+    return mask;
+  }
+
+  /**
+   * Rejects values from the client that are outside of the configured range or unavailable before
+   * any value change event is fired. The field is marked invalid instead, until a selectable value
+   * is received or {@link #setInvalid(boolean)} is called, and the element is reset to the current
+   * value, so that the server and the client agree on the value.
+   */
+  @Override
+  protected void setModelValue(YearMonth newModelValue, boolean fromClient) {
+    if (valueSync != null && valueSync.applyingClientState) {
+      return;
+    }
+    if (fromClient) {
+      MonthPickerMetricsListener metrics = MonthPickerMetrics.listener();
+      metrics.valueSynchronized(this);
+      if (!isAvailable(newModelValue)) {
+        reject(metrics);
+        return;
+      }
+    }
+    applyModelValue(newModelValue, fromClient);
+  }
+
+  private void applyModelValue(YearMonth newModelValue, boolean fromClient) {
+    if (fromClient && rejected) {
+      rejected = false;
+      getElement().setProperty("invalid", false);
+    }
+    YearMonth oldValue = getValue();
+    super.setModelValue(newModelValue, fromClient);
+    if (!Objects.equals(oldValue, getValue())) {
+      MonthPickerMetrics.listener().valueChanged(this, fromClient);
+    }
+  }
+
+  /**
+   * Marks the field invalid for a rejected value from the client and resets the element to the
+   * current value. If the value property has not been synchronized, e.g. with
+   * {@link #setConsolidatedSync(boolean) consolidated synchronization} or in a composite field, the
+   * property still holds the current value, so the reset is sent to the element explicitly.
+   *
+   * @param metrics the listener to notify
+   */
+  void reject(MonthPickerMetricsListener metrics) {
+    rejected = true;
+    getElement().setProperty("invalid", true);
+    String current = FORMATTER.apply(getValue());
+    if (current.equals(getElement().getProperty("value", ""))) {
+      getElement().executeJs("this.value = $0", current);
+    } else {
+      getElement().setProperty("value", current);
+    }
+    metrics.valueRejected(this);
+  }
+
+  @Override
+  public void setValue(YearMonth value) {
+    YearMonth oldValue = getValue();
+    super.setValue(value);
+    if (!Objects.equals(oldValue, getValue())) {
+      MonthPickerMetrics.listener().valueChanged(this, false);
+    }
+  }
+
+  /**
+   * Resets the value, the validity and the i18n settings, and removes the availability validator
+   * and the explicit synchronization of the opened state, so that the picker can be reused by a
+   * {@link MonthPickerPool}. Listeners are removed by the pool before.
+   */
+  void resetForReuse() {
+    setAvailabilityValidator(null);
+    setOpenedStateSynchronized(false);
+    clear();
+    rejected = false;
+    setInvalid(false);
+    i18n = null;
+    getElement().removeProperty("i18n");
+  }
+
+  /**
+   * Sets the client event that synchronizes the value, see
+   * {@link #setSynchronizedEvent(String)}. Used by composite fields that commit the values of their
+   * pickers themselves.
+   *
+   * @param synchronizedEvent the event name, or {@code null} to not synchronize the value
+   */
+  void setValueSynchronizedEvent(String synchronizedEvent) {
+    setSynchronizedEvent(synchronizedEvent);
+  }
+
+  /**
+   * Applies a value that a composite field received from the client for this picker and has
+   * validated itself, see {@link #setValueSynchronizedEvent(String)}. The value is applied as a
+   * value from the client and written to the element. Rejected values are handled with
+   * {@link #reject(MonthPickerMetricsListener)}.
+   *
+   * @param value the accepted value
+   */
+  void acceptCommittedValue(YearMonth value) {
+    applyModelValue(value, true);
+    getElement().setProperty("value", FORMATTER.apply(value));
   }
 
   /**
    * Returns the current internationalization settings used by the month picker.
+   * <p>
+   * The returned settings can be modified and applied with {@link #seti18n(MonthPickerI18n)}. If
+   * the picker shares the unmodifiable settings of a {@link MonthPickerTemplate}, it switches to a
+   * modifiable copy of them first.
    *
    * @return the {@link MonthPickerI18n} settings
    */
   public MonthPickerI18n getI18n() {
+    if (i18n instanceof MonthPickerI18n.UnmodifiableMonthPickerI18n) {
+      i18n = i18n.modifiableCopy();
+    }
     return i18n;
   }
 
+  /**
+   * Returns the server-side format for the current internationalization settings, which formats
+   * and parses values like the month picker does in the browser.
+   *
+   * @return the format, never {@code null}
+   * @see MonthPickerFormat#of(MonthPickerI18n)
+   */
+  public MonthPickerFormat getFormat() {
+    return MonthPickerFormat.of(i18n != null ? i18n : new MonthPickerI18n());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The default value is {@link ValueChangeMode#EAGER}, which synchronizes the value on each
+   * {@code value-changed} event of the element. {@link ValueChangeMode#LAZY} and
+   * {@link ValueChangeMode#TIMEOUT} debounce these events, see
+   * {@link #setValueChangeTimeout(int)}, while {@link ValueChangeMode#ON_CHANGE} and
+   * {@link ValueChangeMode#ON_BLUR} defer the synchronization until the typed input is committed or
+   * the field loses focus.
+   */
+  @Override
+  public void setValueChangeMode(ValueChangeMode valueChangeMode) {
+    valueSync().valueChangeMode = valueChangeMode;
+    updateValueSynchronization();
+  }
+
+  @Override
+  public ValueChangeMode getValueChangeMode() {
+    return valueSync != null ? valueSync.valueChangeMode : ValueChangeMode.EAGER;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The default value is {@link HasValueChangeMode#DEFAULT_CHANGE_TIMEOUT}.
+   */
+  @Override
+  public void setValueChangeTimeout(int valueChangeTimeout) {
+    valueSync().valueChangeTimeout = valueChangeTimeout;
+    updateValueSynchronization();
+  }
+
+  @Override
+  public int getValueChangeTimeout() {
+    return valueSync != null ? valueSync.valueChangeTimeout : DEFAULT_CHANGE_TIMEOUT;
+  }
+
+  /**
+   * Sets whether the state of the element is sent to the server in a single consolidated event
+   * when the value is committed, instead of separately synchronizing the {@code value} property.
+   * <p>
+   * The consolidated event is sent for the event of the current
+   * {@link #setValueChangeMode(ValueChangeMode) value change mode} and carries the value and the
+   * opened state of the element as event data, which are applied on the server in a single update.
+   * Values are validated like synchronized values, see
+   * {@link #setMin(YearMonth)} and {@link #setAvailabilityValidator(MonthAvailabilityValidator)}.
+   * <p>
+   * Consolidated synchronization is disabled by default.
+   *
+   * @param consolidatedSync {@code true} to send the state in a single event, {@code false} to
+   *        synchronize the value property
+   */
+  public void setConsolidatedSync(boolean consolidatedSync) {
+    valueSync().consolidated = consolidatedSync;
+    updateValueSynchronization();
+  }
+
+  /**
+   * Returns whether the state of the element is sent in a single consolidated event.
+   *
+   * @return {@code true} if consolidated synchronization is enabled, {@code false} otherwise
+   * @see #setConsolidatedSync(boolean)
+   */
+  public boolean isConsolidatedSync() {
+    return valueSync != null && valueSync.consolidated;
+  }
+
+  private ValueSync valueSync() {
+    if (valueSync == null) {
+      valueSync = new ValueSync();
+    }
+    return valueSync;
+  }
+
+  /**
+   * Registers the synchronization of the value for the current value change mode, timeout and
+   * consolidated synchronization setting. The settings are dropped again once they are all back
+   * to their defaults.
+   */
+  private void updateValueSynchronization() {
+    ValueSync sync = valueSync();
+    String event = ValueChangeMode.eventForMode(sync.valueChangeMode, "value-changed");
+    if (sync.consolidatedRegistration != null) {
+      sync.consolidatedRegistration.remove();
+      sync.consolidatedRegistration = null;
+    }
+    DomListenerRegistration registration;
+    if (sync.consolidated) {
+      setSynchronizedEvent(null);
+      registration = event == null ? null
+          : getElement().addEventListener(event, this::applyClientState)
+              .addEventData(VALUE_EVENT_DATA).addEventData(OPENED_EVENT_DATA);
+      sync.consolidatedRegistration = registration;
+    } else {
+      setSynchronizedEvent(event);
+      registration = getSynchronizationRegistration();
+    }
+    if (registration != null) {
+      ValueChangeMode.applyChangeTimeout(sync.valueChangeMode, sync.valueChangeTimeout,
+          registration);
+    }
+    if (sync.isDefault()) {
+      valueSync = null;
+    }
+  }
+
+  /**
+   * Applies the state sent with a consolidated synchronization event. The value is parsed first and
+   * the state is applied together afterwards as an update from the client, so that it is not sent
+   * back to the element: an opened change fires an {@link OpenedChangeEvent}, and the value is
+   * validated once like a synchronized value. Only a value that is rejected or not in its
+   * normalized form is written back. A value that cannot be parsed is rejected like an unselectable
+   * value. The validity of the element is not taken from the client.
+   */
+  private void applyClientState(com.vaadin.flow.dom.DomEvent event) {
+    JsonNode data = event.getEventData();
+    String presentationValue = data.path(VALUE_EVENT_DATA).asString("");
+    YearMonth value = null;
+    boolean parsed = true;
+    try {
+      value = PARSER.apply(presentationValue);
+    } catch (DateTimeParseException e) {
+      parsed = false;
+    }
+
+    ElementPropertyMap properties = getElement().getNode().getFeature(ElementPropertyMap.class);
+    boolean opened = data.path(OPENED_EVENT_DATA).asBoolean(false);
+    if (opened != isOpened()) {
+      properties.setProperty("opened", opened, false);
+      if (openedSync == null) {
+        // otherwise counted by the listener of the synchronized opened state
+        MonthPickerMetrics.listener().openedChanged(this, opened);
+      }
+      ComponentUtil.fireEvent(this, new OpenedChangeEvent(this, true));
+    }
+    if (!parsed) {
+      MonthPickerMetricsListener metrics = MonthPickerMetrics.listener();
+      metrics.valueSynchronized(this);
+      reject(metrics);
+      return;
+    }
+    // the value is validated and applied below, not by the listener of the value property
+    valueSync.applyingClientState = true;
+    try {
+      properties.setProperty("value", presentationValue, false);
+    } finally {
+      valueSync.applyingClientState = false;
+    }
+    setModelValue(value, true);
+    String normalized = FORMATTER.apply(value);
+    if (!rejected && !normalized.equals(presentationValue)) {
+      getElement().setProperty("value", normalized);
+    }
+  }
+
   /**
    * Sets the internationalization (i18n) properties for this month picker.
+   * <p>
+   * The settings are sent to the element once the picker is attached, right before the response to
+   * the client is written. Setting them repeatedly before that, e.g. while a form is built,
+   * serializes only the last settings.
+   * <p>
+   * The picker keeps an unmodifiable copy of the given settings, so later modifications of them
+   * only take effect when they are set again. Settings shared by a {@link MonthPickerTemplate} are
+   * not copied.
    *
    * @param i18n the {@link MonthPickerI18n} object with translation settings (must not be
    *        {@code null})
    */
   public void seti18n(MonthPickerI18n i18n) {
-    this.i18n = Objects.requireNonNull(i18n, "The i18n properties object should not be null");
-    ObjectNode i18nJson = this.getI18nJsonObject(i18n);
-    this.getElement().setPropertyJson("i18n", i18nJson);
+    this.i18n = Objects.requireNonNull(i18n, "The i18n properties object should not be null")
+        .unmodifiableCopy();
+    if (!i18nFlushPending) {
+      i18nFlushPending = true;
+      getElement().getNode().runWhenAttached(
+          ui -> ui.beforeClientResponse(this, context -> flushI18n()));
+    }
   }
 
-  private ObjectNode getI18nJsonObject(MonthPickerI18n i18n) {
+  /**
+   * Writes the JSON representation of the current i18n settings to the element.
+   */
+  private void flushI18n() {
+    i18nFlushPending = false;
+    if (i18n == null) {
+      // reset by resetForReuse() after the settings were changed
+      return;
+    }
+    ObjectNode json = getI18nJsonObject(i18n);
+    getElement().setPropertyJson("i18n", json);
+    if (MonthPickerMetrics.isEnabled()) {
+      // the length is only computed when it is reported
+      MonthPickerMetrics.listener().i18nSerialized(this, json.toString().length());
+    }
+  }
+
+  /**
+   * Returns the JSON representation of the given i18n settings. Equal configurations share the
+   * same, cached JSON object, so that each configuration is only serialized once per process.
+   *
+   * @param i18n the i18n settings
+   * @return the shared JSON object, which must not be modified
+   */
+  static ObjectNode getI18nJsonObject(MonthPickerI18n i18n) {
+    if (i18n instanceof MonthPickerI18n.UnmodifiableMonthPickerI18n unmodifiable) {
+      return unmodifiable.json;
+    }
+    return getCachedI18nJsonObject(i18n);
+  }
+
+  private static ObjectNode getCachedI18nJsonObject(MonthPickerI18n i18n) {
+    ObjectNode cached = I18N_JSON_CACHE.get(i18n.contentKey());
+    if (cached != null) {
+      return cached;
+    }
+    // the lists of unmodifiable settings cannot change, so their key does not need to be copied
+    List<List<String>> key = i18n instanceof MonthPickerI18n.UnmodifiableMonthPickerI18n
+        ? i18n.contentKey() : i18n.contentKeySnapshot();
+    return I18N_JSON_CACHE.putIfAbsent(key, createI18nJsonObject(i18n));
+  }
+
+  private static ObjectNode createI18nJsonObject(MonthPickerI18n i18n) {
     ObjectNode i18nJson = JsonNodeFactory.instance.objectNode();
 
     // monthNames
@@ -201,10 +855,82 @@ public class MonthPicker extends AbstractSinglePropertyField<MonthPicker, YearMo
    * input field.
    */
   public static class MonthPickerI18n implements Serializable {
-    private List<String> monthNames;
-    private List<String> monthLabels;
-    private List<String> shortMonthNames;
-    private List<String> formats;
+
+    /**
+     * Maximum number of locales whose month names are kept in {@link #LOCALE_MONTH_NAMES}.
+     */
+    static final int LOCALE_CACHE_SIZE = 32;
+
+    private static final LruCache<Locale, LocaleMonthNames> LOCALE_MONTH_NAMES =
+        new LruCache<>(LOCALE_CACHE_SIZE);
+
+    private static final byte NO_LIST = 0;
+    private static final byte INLINE_LIST = 1;
+    private static final byte LOCALE_FULL_NAMES = 2;
+    private static final byte LOCALE_SHORT_NAMES = 3;
+
+    // the settings are serialized by writeObject
+    private transient List<String> monthNames;
+    private transient List<String> monthLabels;
+    private transient List<String> shortMonthNames;
+    private transient List<String> formats;
+
+    /**
+     * The locale of the month names if created by {@link #forLocale(Locale)}, allows serializing
+     * unchanged locale names by reference.
+     */
+    private transient Locale locale;
+
+    /**
+     * Creates empty i18n settings.
+     */
+    public MonthPickerI18n() {
+    }
+
+    /**
+     * Creates a copy of the given settings. The lists are copied into unmodifiable lists, so the
+     * copy is not affected by later modifications of the source or its lists.
+     *
+     * @param source the settings to copy
+     */
+    MonthPickerI18n(MonthPickerI18n source) {
+      this.monthNames = copyOf(source.monthNames);
+      this.monthLabels = copyOf(source.monthLabels);
+      this.shortMonthNames = copyOf(source.shortMonthNames);
+      this.formats = copyOf(source.formats);
+      this.locale = source.locale;
+    }
+
+    /**
+     * Creates i18n settings with the month names of the given locale. The month names are set to the
+     * full names ({@link TextStyle#FULL}), the short month names and the month labels are set to the
+     * short names ({@link TextStyle#SHORT}). Formats are not set.
+     * <p>
+     * The names are computed once per locale and cached. Each call returns a new instance, which
+     * can be further customized, but the returned name lists are immutable and shared between all
+     * instances of the same locale.
+     *
+     * @param locale the locale to use for the month names (must not be {@code null})
+     * @return a new i18n instance with localized month names
+     */
+    public static MonthPickerI18n forLocale(Locale locale) {
+      Objects.requireNonNull(locale, "The locale should not be null");
+      LocaleMonthNames names = getLocaleMonthNames(locale);
+      MonthPickerI18n i18n = new MonthPickerI18n()
+          .setMonthNames(names.fullNames)
+          .setShortMonthNames(names.shortNames)
+          .setMonthLabels(names.shortNames);
+      i18n.locale = locale;
+      return i18n;
+    }
+
+    private static LocaleMonthNames getLocaleMonthNames(Locale locale) {
+      LocaleMonthNames names = LOCALE_MONTH_NAMES.get(locale);
+      if (names == null) {
+        names = LOCALE_MONTH_NAMES.putIfAbsent(locale, new LocaleMonthNames(locale));
+      }
+      return names;
+    }
 
     /**
      * Gets the name of the months.
@@ -337,21 +1063,330 @@ public class MonthPicker extends AbstractSinglePropertyField<MonthPicker, YearMo
 
       return this;
     }
+
+    /**
+     * Returns a key representing the current content of this object. The key is a view on the
+     * current lists and is only meant for lookups.
+     *
+     * @return the content key
+     */
+    List<List<String>> contentKey() {
+      return Arrays.asList(monthNames, monthLabels, shortMonthNames, formats);
+    }
+
+    /**
+     * Returns a key representing the current content of this object, which is not affected by
+     * later modifications of this object or its lists.
+     *
+     * @return the immutable content key
+     */
+    List<List<String>> contentKeySnapshot() {
+      return Collections.unmodifiableList(Arrays.asList(copyOf(monthNames), copyOf(monthLabels),
+          copyOf(shortMonthNames), copyOf(formats)));
+    }
+
+    private static List<String> copyOf(@Nullable List<String> list) {
+      return list == null ? null : Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    /**
+     * Writes the settings compactly: lists equal to the month names of the locale this object was
+     * created for are written as a reference to the locale, other lists as their strings.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+      out.defaultWriteObject();
+      LocaleMonthNames names = locale != null ? getLocaleMonthNames(locale) : null;
+      out.writeObject(names != null ? locale.toLanguageTag() : null);
+      writeList(out, monthNames, names);
+      writeList(out, monthLabels, names);
+      writeList(out, shortMonthNames, names);
+      writeList(out, formats, null);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+      in.defaultReadObject();
+      String languageTag = (String) in.readObject();
+      locale = languageTag != null ? Locale.forLanguageTag(languageTag) : null;
+      LocaleMonthNames names = locale != null ? getLocaleMonthNames(locale) : null;
+      monthNames = readList(in, names);
+      monthLabels = readList(in, names);
+      shortMonthNames = readList(in, names);
+      formats = readList(in, null);
+    }
+
+    private static void writeList(ObjectOutputStream out, List<String> list,
+        @Nullable LocaleMonthNames names) throws IOException {
+      if (list == null) {
+        out.writeByte(NO_LIST);
+      } else if (names != null && list.equals(names.fullNames)) {
+        out.writeByte(LOCALE_FULL_NAMES);
+      } else if (names != null && list.equals(names.shortNames)) {
+        out.writeByte(LOCALE_SHORT_NAMES);
+      } else {
+        out.writeByte(INLINE_LIST);
+        out.writeInt(list.size());
+        for (String item : list) {
+          out.writeObject(item);
+        }
+      }
+    }
+
+    private static List<String> readList(ObjectInputStream in, @Nullable LocaleMonthNames names)
+        throws IOException, ClassNotFoundException {
+      byte kind = in.readByte();
+      switch (kind) {
+        case NO_LIST:
+          return null;
+        case INLINE_LIST:
+          int size = in.readInt();
+          List<String> list = new ArrayList<>(size);
+          for (int i = 0; i < size; i++) {
+            list.add((String) in.readObject());
+          }
+          return list;
+        case LOCALE_FULL_NAMES:
+        case LOCALE_SHORT_NAMES:
+          if (names != null) {
+            return kind == LOCALE_FULL_NAMES ? names.fullNames : names.shortNames;
+          }
+          // fall through
+        default:
+          throw new InvalidObjectException("Invalid month name list: " + kind);
+      }
+    }
+
+    /**
+     * Returns a modifiable copy of this object. The setters of the copy replace its lists, the
+     * lists themselves are unmodifiable.
+     *
+     * @return the modifiable copy
+     */
+    MonthPickerI18n modifiableCopy() {
+      return new MonthPickerI18n(this);
+    }
+
+    /**
+     * Returns an unmodifiable copy of this object, which can be safely shared between threads.
+     *
+     * @return the unmodifiable copy
+     */
+    MonthPickerI18n unmodifiableCopy() {
+      return new UnmodifiableMonthPickerI18n(this);
+    }
+
+    /**
+     * Copy of i18n settings whose setters throw an {@link UnsupportedOperationException}, holding
+     * its JSON representation.
+     */
+    private static final class UnmodifiableMonthPickerI18n extends MonthPickerI18n {
+
+      // recomputed after deserialization
+      private transient ObjectNode json;
+
+      private UnmodifiableMonthPickerI18n(MonthPickerI18n source) {
+        super(source);
+        this.json = getCachedI18nJsonObject(this);
+      }
+
+      @Override
+      public MonthPickerI18n setMonthNames(List<String> monthNames) {
+        throw new UnsupportedOperationException("These i18n settings cannot be modified");
+      }
+
+      @Override
+      public MonthPickerI18n setMonthLabels(List<String> monthLabels) {
+        throw new UnsupportedOperationException("These i18n settings cannot be modified");
+      }
+
+      @Override
+      public MonthPickerI18n setShortMonthNames(List<String> shortMonthNames) {
+        throw new UnsupportedOperationException("These i18n settings cannot be modified");
+      }
+
+      @Override
+      public MonthPickerI18n setFormats(String primaryFormat, String... additionalParsingFormats) {
+        throw new UnsupportedOperationException("These i18n settings cannot be modified");
+      }
+
+      @Override
+      MonthPickerI18n unmodifiableCopy() {
+        return this;
+      }
+
+      private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        MonthPickerI18n settings = this;
+        settings.monthNames = unmodifiable(settings.monthNames);
+        settings.monthLabels = unmodifiable(settings.monthLabels);
+        settings.shortMonthNames = unmodifiable(settings.shortMonthNames);
+        settings.formats = unmodifiable(settings.formats);
+        json = getCachedI18nJsonObject(this);
+      }
+
+      private static List<String> unmodifiable(@Nullable List<String> list) {
+        return list == null ? null : Collections.unmodifiableList(list);
+      }
+    }
+
+    /**
+     * Immutable month names of a single locale.
+     */
+    private static final class LocaleMonthNames implements Serializable {
+      private final List<String> fullNames;
+      private final List<String> shortNames;
+
+      private LocaleMonthNames(Locale locale) {
+        this.fullNames = Stream.of(Month.values())
+            .map(month -> month.getDisplayName(TextStyle.FULL, locale)).toList();
+        this.shortNames = Stream.of(Month.values())
+            .map(month -> month.getDisplayName(TextStyle.SHORT, locale)).toList();
+      }
+    }
   }
 
 
   /**
    * Returns whether the month picker overlay is currently open.
    * <p>
-   * This property is synchronized from the client when the {@code vcf-month-picker-opened-changed} event occurs.
+   * This property is synchronized from the client when the {@code vcf-month-picker-opened-changed}
+   * event occurs, but only while an {@link #addOpenedChangeListener(ComponentEventListener) opened
+   * change listener} is registered or synchronization has been requested with
+   * {@link #setOpenedStateSynchronized(boolean)}. Otherwise, the last synchronized state is
+   * returned.
    *
    * @return {@code true} if open, {@code false} otherwise
    */
-  @Synchronize(property = "opened", value = "vcf-month-picker-opened-changed")
   public boolean isOpened() {
     return getElement().getProperty("opened", false);
   }
 
+  /**
+   * Sets whether the opened state is synchronized from the client even if no opened change listener
+   * is registered, so that {@link #isOpened()} is always up to date. By default, the opened state is
+   * only synchronized while opened change listeners are registered.
+   *
+   * @param openedStateSynchronized {@code true} to always synchronize the opened state,
+   *        {@code false} to only synchronize it for registered listeners
+   */
+  public void setOpenedStateSynchronized(boolean openedStateSynchronized) {
+    boolean explicit = openedSync != null && openedSync.explicit;
+    if (explicit != openedStateSynchronized) {
+      if (openedStateSynchronized) {
+        requestOpenedSync();
+        openedSync.explicit = true;
+      } else {
+        openedSync.explicit = false;
+        releaseOpenedSync();
+      }
+    }
+  }
+
+  /**
+   * Returns whether the opened state is currently synchronized from the client.
+   *
+   * @return {@code true} if the opened state is synchronized, {@code false} otherwise
+   */
+  public boolean isOpenedStateSynchronized() {
+    return openedSync != null;
+  }
+
+  private void requestOpenedSync() {
+    if (openedSync == null) {
+      openedSync = new OpenedStateSync(getElement().addPropertyChangeListener("opened",
+          "vcf-month-picker-opened-changed", event -> {
+            if (event.isUserOriginated()) {
+              MonthPickerMetrics.listener().openedChanged(this,
+                  Boolean.TRUE.equals(event.getValue()));
+            }
+          }));
+    }
+    openedSync.requests++;
+  }
+
+  private void releaseOpenedSync() {
+    if (--openedSync.requests == 0) {
+      openedSync.registration.remove();
+      openedSync = null;
+    }
+  }
+
+  /**
+   * Synchronization of the opened state, kept only while it is requested.
+   */
+  private static final class OpenedStateSync implements Serializable {
+    private final Registration registration;
+
+    /**
+     * Number of registered opened change listeners, plus one if the opened state is explicitly
+     * synchronized.
+     */
+    private int requests;
+
+    private boolean explicit;
+
+    private OpenedStateSync(Registration registration) {
+      this.registration = registration;
+    }
+  }
+
+  /**
+   * Value synchronization settings of a picker that does not use the defaults.
+   */
+  private static final class ValueSync implements Serializable {
+    private ValueChangeMode valueChangeMode = ValueChangeMode.EAGER;
+
+    private int valueChangeTimeout = DEFAULT_CHANGE_TIMEOUT;
+
+    private boolean consolidated;
+
+    private DomListenerRegistration consolidatedRegistration;
+
+    /**
+     * Whether the value of a consolidated event is being stored in the element.
+     */
+    private boolean applyingClientState;
+
+    private boolean isDefault() {
+      return valueChangeMode == ValueChangeMode.EAGER
+          && valueChangeTimeout == DEFAULT_CHANGE_TIMEOUT && !consolidated;
+    }
+  }
+
+  /**
+   * Configuration and state of the measuring of client timings. Stored as component data, as only
+   * few pickers use it.
+   */
+  private static final class ClientTimings implements Serializable {
+    private int interval = DEFAULT_CLIENT_TIMINGS_INTERVAL;
+
+    /**
+     * Number of registered client timings listeners.
+     */
+    private int listeners;
+
+    /**
+     * Reinstalls the instrumentation on attach, {@code null} while there are no listeners.
+     */
+    private Registration attachRegistration;
+  }
+
+  /**
+   * Availability validator of a picker together with its cached results, kept only while a
+   * validator is set.
+   */
+  private static final class Availability implements Serializable {
+    private final MonthAvailabilityValidator validator;
+
+    /**
+     * Availability masks of the queried years, see {@link MonthAvailabilityValidator}.
+     */
+    private final LruCache<Integer, Integer> masks = new LruCache<>(AVAILABILITY_CACHE_SIZE);
+
+    private Availability(MonthAvailabilityValidator validator) {
+      this.validator = validator;
+    }
+  }
+
   /**
    * Event fired when the opened state of the overlay changes.
    */
@@ -371,12 +1406,128 @@ public class MonthPicker extends AbstractSinglePropertyField<MonthPicker, YearMo
 
   /**
    * Adds a listener for {@code vcf-month-picker-opened-changed} events triggered when the overlay is opened or closed.
+   * <p>
+   * The opened state is synchronized from the client while at least one listener is registered.
    *
    * @param listener the event listener
    * @return a {@link Registration} for removing the listener
    */
   public Registration addOpenedChangeListener(ComponentEventListener<OpenedChangeEvent> listener) {
-    return addListener(OpenedChangeEvent.class, listener);
+    Registration registration = addListener(OpenedChangeEvent.class, listener);
+    requestOpenedSync();
+    return Registration.once(() -> {
+      registration.remove();
+      releaseOpenedSync();
+    });
+  }
+
+  /**
+   * Sets the interval in which timings measured in the browser are sent to the server, see
+   * {@link #addClientTimingsListener(ComponentEventListener)}. Timings are sent at most once per
+   * interval, and only if any have been measured.
+   *
+   * @param intervalMillis the interval in milliseconds, must be positive
+   */
+  public void setClientTimingsInterval(int intervalMillis) {
+    if (intervalMillis <= 0) {
+      throw new IllegalArgumentException("The client timings interval must be positive");
+    }
+    ClientTimings clientTimings = ComponentUtil.getData(this, ClientTimings.class);
+    if (clientTimings == null) {
+      if (intervalMillis == DEFAULT_CLIENT_TIMINGS_INTERVAL) {
+        return;
+      }
+      clientTimings = new ClientTimings();
+      ComponentUtil.setData(this, ClientTimings.class, clientTimings);
+    }
+    clientTimings.interval = intervalMillis;
+    if (clientTimings.attachRegistration != null && isAttached()) {
+      installClientTimings();
+    }
+  }
+
+  /**
+   * Returns the interval in which timings measured in the browser are sent to the server.
+   *
+   * @return the interval in milliseconds
+   */
+  public int getClientTimingsInterval() {
+    ClientTimings clientTimings = ComponentUtil.getData(this, ClientTimings.class);
+    return clientTimings != null ? clientTimings.interval : DEFAULT_CLIENT_TIMINGS_INTERVAL;
+  }
+
+  /**
+   * Adds a listener for timings measured in the browser, see {@link ClientTiming.Type}. The timings
+   * are collected by the browser and sent in batches, see {@link #setClientTimingsInterval(int)}.
+   * <p>
+   * Measuring is opt-in: the element is only instrumented while at least one listener is
+   * registered.
+   *
+   * @param listener the listener
+   * @return a {@link Registration} for removing the listener
+   */
+  public Registration addClientTimingsListener(
+      ComponentEventListener<ClientTimingsEvent> listener) {
+    Registration registration = addListener(ClientTimingsEvent.class, listener);
+    ClientTimings existing = ComponentUtil.getData(this, ClientTimings.class);
+    ClientTimings clientTimings = existing != null ? existing : new ClientTimings();
+    ComponentUtil.setData(this, ClientTimings.class, clientTimings);
+    if (clientTimings.listeners++ == 0) {
+      // not addAttachListener, so that subclasses only see the listeners of their users
+      clientTimings.attachRegistration =
+          addListener(AttachEvent.class, event -> installClientTimings());
+      if (isAttached()) {
+        installClientTimings();
+      }
+    }
+    return Registration.once(() -> {
+      registration.remove();
+      if (--clientTimings.listeners == 0) {
+        clientTimings.attachRegistration.remove();
+        clientTimings.attachRegistration = null;
+        getElement().executeJs(STOP_CLIENT_TIMINGS_SCRIPT);
+      }
+    });
+  }
+
+  private void installClientTimings() {
+    getElement().executeJs(CLIENT_TIMINGS_SCRIPT, getClientTimingsInterval());
+  }
+
+  /**
+   * Event carrying a batch of timings measured in the browser.
+   */
+  @DomEvent("vcf-month-picker-timings")
+  public static class ClientTimingsEvent extends ComponentEvent<MonthPicker> {
+    private final List<ClientTiming> timings;
+
+    public ClientTimingsEvent(MonthPicker source, boolean fromClient,
+        @EventData("event.detail.timings") JsonNode timings) {
+      super(source, fromClient);
+      // a missing or malformed batch from the client is treated as an empty batch
+      if (timings == null || !timings.isArray()) {
+        this.timings = List.of();
+        return;
+      }
+      List<ClientTiming> parsed = new ArrayList<>(timings.size());
+      for (JsonNode timing : timings) {
+        ClientTiming.Type type = ClientTiming.Type.forClientName(timing.path("type").asString(""));
+        JsonNode millis = timing.path("millis");
+        if (type != null && millis.isNumber()) {
+          parsed.add(new ClientTiming(type, millis.asDouble()));
+        }
+      }
+      this.timings = Collections.unmodifiableList(parsed);
+    }
+
+    /**
+     * Returns the timings of this batch in the order in which they were measured.
+     *
+     * @return the timings
+     */
+    public List<ClientTiming> getTimings() {
+      return timings;
+    }
   }
 
 }
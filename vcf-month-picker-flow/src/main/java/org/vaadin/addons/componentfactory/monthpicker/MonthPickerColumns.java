@@ -0,0 +1,155 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.data.renderer.LitRenderer;
+import com.vaadin.flow.function.SerializableBiConsumer;
+import com.vaadin.flow.function.ValueProvider;
+import jakarta.annotation.Nullable;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Factory for editable {@link Grid} columns that render a <code>vcf-month-picker</code> element in
+ * each row.
+ * <p>
+ * Unlike a {@link com.vaadin.flow.data.renderer.ComponentRenderer} creating a {@link MonthPicker}
+ * per row, the column renders the element from a template on the client. The only per-row data is
+ * the value; the i18n settings are sent once per column and values picked on the client are sent
+ * back through a single row-keyed callback.
+ * </p>
+ *
+ * <pre>
+ * MonthPickerColumns.add(grid, Invoice::getBillingMonth, Invoice::setBillingMonth, i18n)
+ *     .setHeader("Billing month");
+ * </pre>
+ */
+public final class MonthPickerColumns {
+
+  private static final String I18N_PROPERTY_PREFIX = "__vcfMonthPickerI18n";
+
+  /**
+   * Key of the grid data marking that the grid requests the web component when it is attached.
+   */
+  private static final String MODULE_REQUEST_REGISTERED = "vcf-month-picker-module-request";
+
+  private MonthPickerColumns() {}
+
+  /**
+   * Adds an editable month picker column to the given grid. Values picked on the client are passed
+   * to the given setter, after which the item is refreshed.
+   *
+   * @param grid the grid to add the column to (must not be {@code null})
+   * @param getter the provider of the value of a row (must not be {@code null})
+   * @param setter the consumer of values picked for a row (must not be {@code null})
+   * @param i18n the i18n settings shared by all pickers in the column, or {@code null} for the
+   *        defaults of the web component
+   * @param <T> the item type
+   * @return the added column
+   */
+  public static <T> Grid.Column<T> add(Grid<T> grid, ValueProvider<T, YearMonth> getter,
+      SerializableBiConsumer<T, YearMonth> setter, @Nullable MonthPickerI18n i18n) {
+    Objects.requireNonNull(grid, "The grid should not be null");
+    Objects.requireNonNull(getter, "The value getter should not be null");
+    Objects.requireNonNull(setter, "The value setter should not be null");
+
+    String i18nProperty = i18n != null ? getI18nProperty(grid.getElement(), i18n) : null;
+
+    LitRenderer<T> renderer = LitRenderer.<T>of(createTemplate(i18nProperty))
+        .withProperty("value", item -> YearMonthCodec.format(getter.apply(item)))
+        .withFunction("onValueChange", (item, args) -> {
+          if (applyClientValue(item, args, setter)) {
+            grid.getDataProvider().refreshItem(item);
+          }
+        });
+    requestModule(grid);
+    return grid.addColumn(renderer);
+  }
+
+  /**
+   * Requests the web component for the given grid if it is loaded lazily, as the cells are not
+   * {@link MonthPicker} components that would request it themselves. The attach listener is only
+   * registered once per grid.
+   */
+  private static void requestModule(Grid<?> grid) {
+    if (ComponentUtil.getData(grid, MODULE_REQUEST_REGISTERED) == null) {
+      ComponentUtil.setData(grid, MODULE_REQUEST_REGISTERED, Boolean.TRUE);
+      grid.addAttachListener(event -> MonthPicker.requestModule(event.getUI()));
+    }
+    grid.getUI().ifPresent(MonthPicker::requestModule);
+  }
+
+  /**
+   * Returns the name of the grid property holding the given i18n settings, setting the property if
+   * the grid does not have one yet. Columns with equal settings share a property; the properties
+   * are numbered per grid.
+   */
+  static String getI18nProperty(Element gridElement, MonthPickerI18n i18n) {
+    ObjectNode json = MonthPicker.getI18nJsonObject(i18n);
+    int count = 0;
+    for (String name : (Iterable<String>) gridElement.getPropertyNames()::iterator) {
+      if (name.startsWith(I18N_PROPERTY_PREFIX)) {
+        if (json.equals(gridElement.getPropertyRaw(name))) {
+          return name;
+        }
+        count++;
+      }
+    }
+    String name = I18N_PROPERTY_PREFIX + count;
+    gridElement.setPropertyJson(name, json);
+    return name;
+  }
+
+  /**
+   * Returns the template of the column, binding the i18n settings from the given grid property, if
+   * any.
+   */
+  static String createTemplate(@Nullable String i18nProperty) {
+    StringBuilder template = new StringBuilder("<vcf-month-picker style=\"width: 100%\"");
+    template.append(" .value=\"${item.value}\"");
+    if (i18nProperty != null) {
+      template.append(" .i18n=\"${root.parentElement && root.parentElement.")
+          .append(i18nProperty).append("}\"");
+    }
+    // value-changed is also fired when the template sets the value of a (reused) cell, only
+    // values that differ from the row's value are sent to the server
+    template.append(" @value-changed=\"${e => e.detail.value !== item.value")
+        .append(" && onValueChange(e.detail.value)}\"></vcf-month-picker>");
+    return template.toString();
+  }
+
+  /**
+   * Passes the value sent from the client for the given item to the setter.
+   *
+   * @return {@code true} if a value was applied, {@code false} if the value could not be parsed
+   */
+  static <T> boolean applyClientValue(T item, JsonNode args,
+      SerializableBiConsumer<T, YearMonth> setter) {
+    YearMonth value;
+    try {
+      value = YearMonthCodec.parse(args.path(0).asString(""));
+    } catch (DateTimeParseException e) {
+      return false;
+    }
+    setter.accept(item, value);
+    return true;
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import java.time.YearMonth;
+import java.util.Objects;
+import com.vaadin.flow.component.AbstractField;
+import com.vaadin.flow.component.HasSize;
+import com.vaadin.flow.component.HasStyle;
+import com.vaadin.flow.component.Tag;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
+
+/**
+ * Display-only companion of {@link MonthPicker}, rendering its value as plain text.
+ * <p>
+ * The value is formatted on the server with the primary format of the i18n settings (see
+ * {@link MonthPickerFormat}) and rendered in a <code>span</code> element, so neither the
+ * <code>vcf-month-picker</code> web component nor its i18n settings are sent to the browser. Use it
+ * instead of a read-only {@link MonthPicker} where values are only shown.
+ * </p>
+ */
+@Tag("span")
+public class MonthPickerDisplay extends AbstractField<MonthPickerDisplay, YearMonth>
+    implements HasSize, HasStyle {
+
+  private MonthPickerI18n i18n;
+
+  private MonthPickerFormat format;
+
+  /**
+   * Creates an empty display with the default format.
+   */
+  public MonthPickerDisplay() {
+    this(null);
+  }
+
+  /**
+   * Creates a display with the given initial value and the default format.
+   *
+   * @param initialYearMonth the initial {@link YearMonth}
+   */
+  public MonthPickerDisplay(YearMonth initialYearMonth) {
+    this(initialYearMonth, new MonthPickerI18n());
+  }
+
+  /**
+   * Creates a display with the given initial value and i18n settings.
+   *
+   * @param initialYearMonth the initial {@link YearMonth}
+   * @param i18n the i18n settings used for formatting (must not be {@code null})
+   */
+  public MonthPickerDisplay(YearMonth initialYearMonth, MonthPickerI18n i18n) {
+    super(null);
+    seti18n(i18n);
+    setValue(initialYearMonth);
+  }
+
+  /**
+   * Returns the internationalization settings used for formatting the value.
+   *
+   * @return the {@link MonthPickerI18n} settings
+   */
+  public MonthPickerI18n getI18n() {
+    return i18n;
+  }
+
+  /**
+   * Sets the internationalization settings used for formatting the value. The value is formatted
+   * with the primary format, as in {@link MonthPicker#seti18n(MonthPickerI18n)}.
+   *
+   * @param i18n the {@link MonthPickerI18n} settings (must not be {@code null})
+   */
+  public void seti18n(MonthPickerI18n i18n) {
+    this.i18n = Objects.requireNonNull(i18n, "The i18n properties object should not be null");
+    this.format = MonthPickerFormat.of(i18n);
+    setPresentationValue(getValue());
+  }
+
+  @Override
+  protected void setPresentationValue(YearMonth newPresentationValue) {
+    getElement().setText(format.format(newPresentationValue));
+  }
+}
@@ -0,0 +1,656 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Serializable;
+import java.io.Writer;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
+
+/**
+ * Server-side formatter and parser for the format patterns of {@link MonthPickerI18n}.
+ * <p>
+ * The patterns are compiled once, instances are immutable and thread-safe and can be shared freely.
+ * Instances for an i18n configuration are obtained with {@link #of(MonthPickerI18n)}, which caches
+ * them by the content of the configuration.
+ * </p>
+ *
+ * <p>Supported pattern symbols:
+ * <ul>
+ *   <li>{@code YY} - 2-digit year, parsed to the year closest to the current year</li>
+ *   <li>{@code YYYY} - 4-digit year</li>
+ *   <li>{@code M} - 1- or 2-digit month</li>
+ *   <li>{@code MM} - 2-digit month (with leading zero)</li>
+ *   <li>{@code MMM} - short month name</li>
+ *   <li>{@code MMMM} - long month name</li>
+ * </ul>
+ * All other characters are matched literally. Month names are matched case-insensitively.
+ * </p>
+ *
+ * <p>
+ * For bulk imports and exports, {@link #parseAll(List)}, {@link #parseLines(Reader, ParseHandler)}
+ * and {@link #formatLines(Iterable, Writer)} process many values with the same format and report
+ * unparsable values per row instead of throwing exceptions.
+ * </p>
+ *
+ * @see MonthPickerI18n#setFormats(String, String...)
+ */
+public final class MonthPickerFormat implements Serializable {
+
+  /**
+   * The format that is used when the i18n settings do not define any formats.
+   */
+  public static final String DEFAULT_FORMAT = "MM/YYYY";
+
+  /**
+   * Maximum number of distinct i18n configurations whose compiled format is kept in
+   * {@link #CACHE}.
+   */
+  static final int CACHE_SIZE = 64;
+
+  private static final LruCache<List<List<String>>, MonthPickerFormat> CACHE =
+      new LruCache<>(CACHE_SIZE);
+
+  private static final int NO_MATCH = Integer.MIN_VALUE;
+
+  private static final int EMPTY = Integer.MIN_VALUE + 1;
+
+  private static final byte LITERAL = 0;
+  private static final byte YEAR_2 = 1;
+  private static final byte YEAR_4 = 2;
+  private static final byte MONTH = 3;
+  private static final byte MONTH_2 = 4;
+  private static final byte MONTH_SHORT_NAME = 5;
+  private static final byte MONTH_NAME = 6;
+
+  private final CompiledPattern[] patterns;
+  private final String[] monthNames;
+  private final String[] shortMonthNames;
+  private final boolean twoDigitYear;
+
+  private MonthPickerFormat(List<String> formats, List<String> monthNames,
+      List<String> shortMonthNames) {
+    this.patterns = formats.stream().map(CompiledPattern::new).toArray(CompiledPattern[]::new);
+    this.monthNames = toNameArray(monthNames);
+    this.shortMonthNames = toNameArray(shortMonthNames);
+    this.twoDigitYear = Arrays.stream(patterns).anyMatch(CompiledPattern::hasTwoDigitYear);
+  }
+
+  /**
+   * Returns the format for the given i18n settings. If the settings define no formats,
+   * {@link #DEFAULT_FORMAT} is used. If they define no (short) month names, English names are used.
+   * <p>
+   * Formats are cached by the content of the i18n settings, so equal settings share the same
+   * instance.
+   *
+   * @param i18n the i18n settings (must not be {@code null})
+   * @return the format
+   * @throws IllegalArgumentException if a pattern contains an unsupported symbol
+   */
+  public static MonthPickerFormat of(MonthPickerI18n i18n) {
+    Objects.requireNonNull(i18n, "The i18n properties object should not be null");
+    MonthPickerFormat cached = CACHE.get(i18n.contentKey());
+    if (cached != null) {
+      return cached;
+    }
+    MonthPickerI18n english = MonthPickerI18n.forLocale(Locale.ENGLISH);
+    List<String> formats = i18n.getFormats() == null || i18n.getFormats().isEmpty()
+        ? List.of(DEFAULT_FORMAT)
+        : i18n.getFormats();
+    MonthPickerFormat format = new MonthPickerFormat(formats,
+        i18n.getMonthNames() != null ? i18n.getMonthNames() : english.getMonthNames(),
+        i18n.getShortMonthNames() != null ? i18n.getShortMonthNames()
+            : english.getShortMonthNames());
+    return CACHE.putIfAbsent(i18n.contentKeySnapshot(), format);
+  }
+
+  /**
+   * Formats the given value with the primary format.
+   *
+   * @param value the value to format
+   * @return the formatted value, or an empty string for {@code null}
+   */
+  public String format(YearMonth value) {
+    if (value == null) {
+      return "";
+    }
+    StringBuilder builder = new StringBuilder(16);
+    formatTo(value.getYear(), value.getMonthValue(), builder);
+    return builder.toString();
+  }
+
+  /**
+   * Parses the given text with the primary format, and if that fails, with the additional parsing
+   * formats in their order. Leading and trailing whitespace is ignored.
+   *
+   * @param text the text to parse
+   * @return the parsed value, or {@code null} if the text is {@code null}, blank or cannot be
+   *         parsed with any of the formats
+   */
+  public YearMonth parse(CharSequence text) {
+    int packed = parsePacked(text, currentYear());
+    return packed == NO_MATCH ? null : YearMonthCodec.unpack(packed);
+  }
+
+  /**
+   * Parses all given texts, see {@link #parse(CharSequence)}. Blank texts result in empty rows,
+   * texts that cannot be parsed are reported as failed rows. Two digit years are resolved relative
+   * to the year in which the parsing starts.
+   *
+   * @param texts the texts to parse (must not be {@code null})
+   * @return the result with one row per text
+   */
+  public ParseResult parseAll(List<? extends CharSequence> texts) {
+    Objects.requireNonNull(texts, "The texts to parse should not be null");
+    int[] values = new int[texts.size()];
+    int currentYear = currentYear();
+    for (int row = 0; row < values.length; row++) {
+      values[row] = parseRow(texts.get(row), currentYear);
+    }
+    return new ParseResult(values);
+  }
+
+  /**
+   * Parses all given texts in parallel in the given fork-join pool, see {@link #parseAll(List)}.
+   * The list should support fast random access.
+   *
+   * @param texts the texts to parse (must not be {@code null})
+   * @param pool the pool to run the parsing in (must not be {@code null})
+   * @return the result with one row per text
+   */
+  public ParseResult parseAll(List<? extends CharSequence> texts, ForkJoinPool pool) {
+    Objects.requireNonNull(texts, "The texts to parse should not be null");
+    Objects.requireNonNull(pool, "The fork-join pool should not be null");
+    int[] values = new int[texts.size()];
+    int currentYear = currentYear();
+    pool.submit(() -> IntStream.range(0, values.length).parallel()
+        .forEach(row -> values[row] = parseRow(texts.get(row), currentYear))).join();
+    return new ParseResult(values);
+  }
+
+  /**
+   * Parses each line read from the given reader and passes the result to the given handler. Rows
+   * are numbered from {@code 0}. Two digit years are resolved relative to the year in which the
+   * parsing starts. The reader is not closed.
+   *
+   * @param reader the reader to read the lines from (must not be {@code null})
+   * @param handler the handler receiving the parsed values and failures (must not be {@code null})
+   * @return the number of lines that could not be parsed
+   * @throws IOException if reading fails
+   */
+  public long parseLines(Reader reader, ParseHandler handler) throws IOException {
+    Objects.requireNonNull(reader, "The reader should not be null");
+    Objects.requireNonNull(handler, "The handler should not be null");
+    BufferedReader lines =
+        reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    long row = 0;
+    long failures = 0;
+    int currentYear = currentYear();
+    String line;
+    while ((line = lines.readLine()) != null) {
+      int packed = parseRow(line, currentYear);
+      if (packed == NO_MATCH) {
+        failures++;
+        handler.failure(row, line);
+      } else {
+        handler.value(row, packed == EMPTY ? null : YearMonthCodec.unpack(packed));
+      }
+      row++;
+    }
+    return failures;
+  }
+
+  /**
+   * Writes each of the given values formatted with the primary format as a line to the given
+   * writer. {@code null} values are written as empty lines. The writer is neither flushed nor
+   * closed.
+   *
+   * @param values the values to write (must not be {@code null})
+   * @param writer the writer to write to (must not be {@code null})
+   * @throws IOException if writing fails
+   */
+  public void formatLines(Iterable<YearMonth> values, Writer writer) throws IOException {
+    Objects.requireNonNull(values, "The values should not be null");
+    Objects.requireNonNull(writer, "The writer should not be null");
+    StringBuilder builder = new StringBuilder(32);
+    for (YearMonth value : values) {
+      builder.setLength(0);
+      if (value != null) {
+        formatTo(value.getYear(), value.getMonthValue(), builder);
+      }
+      builder.append('\n');
+      writer.append(builder);
+    }
+  }
+
+  /**
+   * Returns the primary format pattern.
+   *
+   * @return the primary pattern
+   */
+  public String getPattern() {
+    return patterns[0].pattern;
+  }
+
+  /**
+   * Appends the given year and month formatted with the primary format to the given builder.
+   *
+   * @param year the year
+   * @param month the month, from 1 to 12
+   * @param builder the builder to append to
+   */
+  void formatTo(int year, int month, StringBuilder builder) {
+    CompiledPattern pattern = patterns[0];
+    for (int i = 0; i < pattern.types.length; i++) {
+      switch (pattern.types[i]) {
+        case YEAR_2:
+          appendTwoDigits(Math.floorMod(year, 100), builder);
+          break;
+        case YEAR_4:
+          if (year >= 0 && year < 1000) {
+            builder.append(year < 10 ? "000" : year < 100 ? "00" : "0");
+          }
+          builder.append(year);
+          break;
+        case MONTH:
+          builder.append(month);
+          break;
+        case MONTH_2:
+          appendTwoDigits(month, builder);
+          break;
+        case MONTH_SHORT_NAME:
+          builder.append(shortMonthNames[month - 1]);
+          break;
+        case MONTH_NAME:
+          builder.append(monthNames[month - 1]);
+          break;
+        default:
+          builder.append(pattern.literals[i]);
+          break;
+      }
+    }
+  }
+
+  /**
+   * Returns the current year for resolving two digit years, or {@code 0} if none of the patterns
+   * contains a two digit year, so that the clock is only read when needed.
+   */
+  private int currentYear() {
+    return twoDigitYear ? Year.now().getValue() : 0;
+  }
+
+  /**
+   * Parses the given text like {@link #parse(CharSequence)}, but returns the packed value.
+   *
+   * @param text the text to parse
+   * @param currentYear the year relative to which two digit years are resolved
+   * @return the packed value, or {@link Integer#MIN_VALUE} if the text cannot be parsed
+   */
+  int parsePacked(CharSequence text, int currentYear) {
+    if (text == null) {
+      return NO_MATCH;
+    }
+    int start = 0;
+    int end = text.length();
+    while (start < end && Character.isWhitespace(text.charAt(start))) {
+      start++;
+    }
+    while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+      end--;
+    }
+    if (start == end) {
+      return NO_MATCH;
+    }
+    for (CompiledPattern pattern : patterns) {
+      int packed = match(pattern, 0, text, start, end, -1, -1, currentYear);
+      if (packed != NO_MATCH) {
+        return packed;
+      }
+    }
+    return NO_MATCH;
+  }
+
+  /**
+   * Parses a single row of a bulk operation, distinguishing blank rows from failures.
+   *
+   * @return the packed value, {@link #EMPTY} for a blank text or {@link #NO_MATCH}
+   */
+  private int parseRow(CharSequence text, int currentYear) {
+    if (text != null) {
+      for (int i = 0; i < text.length(); i++) {
+        if (!Character.isWhitespace(text.charAt(i))) {
+          return parsePacked(text, currentYear);
+        }
+      }
+    }
+    return EMPTY;
+  }
+
+  /**
+   * Matches the tokens of the given pattern, starting at the given token, against the text starting
+   * at the given position. Backtracks over the variable length tokens, so e.g. {@code "MYYYY"}
+   * matches both {@code "12025"} and {@code "122025"}.
+   */
+  private int match(CompiledPattern pattern, int token, CharSequence text, int pos, int end,
+      int year, int month, int currentYear) {
+    if (token == pattern.types.length) {
+      return pos == end && year != -1 && month != -1 ? YearMonthCodec.pack(year, month) : NO_MATCH;
+    }
+    switch (pattern.types[token]) {
+      case YEAR_2: {
+        int value = readDigits(text, pos, end, 2);
+        return value < 0 ? NO_MATCH
+            : match(pattern, token + 1, text, pos + 2, end,
+                resolveTwoDigitYear(value, currentYear), month, currentYear);
+      }
+      case YEAR_4: {
+        int value = readDigits(text, pos, end, 4);
+        return value < 0 ? NO_MATCH
+            : match(pattern, token + 1, text, pos + 4, end, value, month, currentYear);
+      }
+      case MONTH: {
+        int value = readDigits(text, pos, end, 2);
+        if (value >= 1 && value <= 12) {
+          int packed = match(pattern, token + 1, text, pos + 2, end, year, value, currentYear);
+          if (packed != NO_MATCH) {
+            return packed;
+          }
+        }
+        value = readDigits(text, pos, end, 1);
+        return value < 1 ? NO_MATCH
+            : match(pattern, token + 1, text, pos + 1, end, year, value, currentYear);
+      }
+      case MONTH_2: {
+        int value = readDigits(text, pos, end, 2);
+        return value < 1 || value > 12 ? NO_MATCH
+            : match(pattern, token + 1, text, pos + 2, end, year, value, currentYear);
+      }
+      case MONTH_SHORT_NAME:
+        return matchName(shortMonthNames, pattern, token, text, pos, end, year, currentYear);
+      case MONTH_NAME:
+        return matchName(monthNames, pattern, token, text, pos, end, year, currentYear);
+      default: {
+        String literal = pattern.literals[token];
+        if (end - pos < literal.length()) {
+          return NO_MATCH;
+        }
+        for (int i = 0; i < literal.length(); i++) {
+          if (text.charAt(pos + i) != literal.charAt(i)) {
+            return NO_MATCH;
+          }
+        }
+        return match(pattern, token + 1, text, pos + literal.length(), end, year, month,
+            currentYear);
+      }
+    }
+  }
+
+  private int matchName(String[] names, CompiledPattern pattern, int token, CharSequence text,
+      int pos, int end, int year, int currentYear) {
+    for (int i = 0; i < names.length; i++) {
+      String name = names[i];
+      if (!name.isEmpty() && regionMatches(text, pos, end, name)) {
+        int packed =
+            match(pattern, token + 1, text, pos + name.length(), end, year, i + 1, currentYear);
+        if (packed != NO_MATCH) {
+          return packed;
+        }
+      }
+    }
+    return NO_MATCH;
+  }
+
+  private static boolean regionMatches(CharSequence text, int pos, int end, String name) {
+    if (end - pos < name.length()) {
+      return false;
+    }
+    for (int i = 0; i < name.length(); i++) {
+      char a = text.charAt(pos + i);
+      char b = name.charAt(i);
+      if (a != b && Character.toLowerCase(a) != Character.toLowerCase(b)
+          && Character.toUpperCase(a) != Character.toUpperCase(b)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Reads exactly the given number of ASCII digits.
+   *
+   * @return the value of the digits, or {@code -1} if there are not enough digits
+   */
+  private static int readDigits(CharSequence text, int pos, int end, int count) {
+    if (end - pos < count) {
+      return -1;
+    }
+    int value = 0;
+    for (int i = pos; i < pos + count; i++) {
+      int digit = text.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  /**
+   * Resolves a two digit year to the year with these last two digits that is closest to the
+   * current year, i.e. within 50 years before and 49 years after it.
+   */
+  private static int resolveTwoDigitYear(int twoDigitYear, int currentYear) {
+    int year = currentYear - Math.floorMod(currentYear, 100) + twoDigitYear;
+    if (year > currentYear + 49) {
+      return year - 100;
+    }
+    if (year < currentYear - 50) {
+      return year + 100;
+    }
+    return year;
+  }
+
+  private static void appendTwoDigits(int value, StringBuilder builder) {
+    if (value < 10) {
+      builder.append('0');
+    }
+    builder.append(value);
+  }
+
+  private static String[] toNameArray(List<String> names) {
+    String[] array = new String[12];
+    for (int i = 0; i < array.length; i++) {
+      String name = i < names.size() ? names.get(i) : null;
+      array[i] = name == null ? "" : name;
+    }
+    return array;
+  }
+
+  /**
+   * Receives the rows parsed by {@link MonthPickerFormat#parseLines(Reader, ParseHandler)}.
+   */
+  public interface ParseHandler {
+
+    /**
+     * Called for a row that was parsed successfully.
+     *
+     * @param row the row number, starting from {@code 0}
+     * @param value the parsed value, or {@code null} for a blank row
+     */
+    void value(long row, YearMonth value);
+
+    /**
+     * Called for a row that could not be parsed.
+     *
+     * @param row the row number, starting from {@code 0}
+     * @param text the text of the row
+     */
+    void failure(long row, String text);
+  }
+
+  /**
+   * The result of parsing many values at once. Each row holds either a value, is empty (for a blank
+   * text) or is failed (for a text that could not be parsed).
+   */
+  public static final class ParseResult implements Serializable {
+    private final int[] values;
+    private final int failureCount;
+
+    private ParseResult(int[] values) {
+      this.values = values;
+      this.failureCount = (int) Arrays.stream(values).filter(value -> value == NO_MATCH).count();
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+      return values.length;
+    }
+
+    /**
+     * Returns the value of the given row.
+     *
+     * @param row the row, starting from {@code 0}
+     * @return the value, or {@code null} if the row is empty or failed
+     */
+    public YearMonth get(int row) {
+      int value = values[row];
+      return value == NO_MATCH || value == EMPTY ? null : YearMonthCodec.unpack(value);
+    }
+
+    /**
+     * Returns whether the text of the given row could not be parsed.
+     *
+     * @param row the row, starting from {@code 0}
+     * @return {@code true} if the row failed, {@code false} otherwise
+     */
+    public boolean isFailed(int row) {
+      return values[row] == NO_MATCH;
+    }
+
+    /**
+     * Returns the number of rows that could not be parsed.
+     *
+     * @return the number of failed rows
+     */
+    public int getFailureCount() {
+      return failureCount;
+    }
+
+    /**
+     * Returns the failed rows in ascending order.
+     *
+     * @return the failed rows
+     */
+    public int[] getFailedRows() {
+      return IntStream.range(0, values.length).filter(this::isFailed).toArray();
+    }
+  }
+
+  /**
+   * A single pattern, split into its symbols and literal parts.
+   */
+  private static final class CompiledPattern implements Serializable {
+    private final String pattern;
+    private final byte[] types;
+    private final String[] literals;
+
+    private CompiledPattern(String pattern) {
+      Objects.requireNonNull(pattern, "The format pattern should not be null");
+      List<Byte> typeList = new ArrayList<>();
+      List<String> literalList = new ArrayList<>();
+      StringBuilder literal = new StringBuilder();
+      int i = 0;
+      while (i < pattern.length()) {
+        char c = pattern.charAt(i);
+        if (c != 'Y' && c != 'M') {
+          literal.append(c);
+          i++;
+          continue;
+        }
+        int length = 1;
+        while (i + length < pattern.length() && pattern.charAt(i + length) == c) {
+          length++;
+        }
+        if (literal.length() > 0) {
+          typeList.add(LITERAL);
+          literalList.add(literal.toString());
+          literal.setLength(0);
+        }
+        typeList.add(symbolType(pattern, c, length));
+        literalList.add(null);
+        i += length;
+      }
+      if (literal.length() > 0) {
+        typeList.add(LITERAL);
+        literalList.add(literal.toString());
+      }
+      this.pattern = pattern;
+      this.types = new byte[typeList.size()];
+      for (int t = 0; t < types.length; t++) {
+        types[t] = typeList.get(t);
+      }
+      this.literals = literalList.toArray(String[]::new);
+    }
+
+    private boolean hasTwoDigitYear() {
+      for (byte type : types) {
+        if (type == YEAR_2) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private static byte symbolType(String pattern, char symbol, int length) {
+      if (symbol == 'Y' && length == 2) {
+        return YEAR_2;
+      }
+      if (symbol == 'Y' && length == 4) {
+        return YEAR_4;
+      }
+      if (symbol == 'M') {
+        switch (length) {
+          case 1:
+            return MONTH;
+          case 2:
+            return MONTH_2;
+          case 3:
+            return MONTH_SHORT_NAME;
+          case 4:
+            return MONTH_NAME;
+          default:
+            break;
+        }
+      }
+      throw new IllegalArgumentException(
+          "Unsupported symbol '" + String.valueOf(symbol).repeat(length) + "' in format pattern '"
+              + pattern + "'");
+    }
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import java.util.ServiceLoader;
+import jakarta.annotation.Nullable;
+
+/**
+ * Holder of the process-wide {@link MonthPickerMetricsListener}.
+ * <p>
+ * Unless a listener is set with {@link #setListener(MonthPickerMetricsListener)}, the first
+ * implementation registered in {@code META-INF/services} is used. Without any listener, the pickers
+ * skip all metrics work.
+ * </p>
+ */
+public final class MonthPickerMetrics {
+
+  private static final MonthPickerMetricsListener NONE = new MonthPickerMetricsListener() {};
+
+  private static volatile MonthPickerMetricsListener listener =
+      ServiceLoader.load(MonthPickerMetricsListener.class).findFirst().orElse(NONE);
+
+  private MonthPickerMetrics() {}
+
+  /**
+   * Sets the listener notified by all month pickers.
+   *
+   * @param listener the listener, or {@code null} to not collect metrics
+   */
+  public static void setListener(@Nullable MonthPickerMetricsListener listener) {
+    MonthPickerMetrics.listener = listener != null ? listener : NONE;
+  }
+
+  /**
+   * Returns the listener notified by all month pickers.
+   *
+   * @return the listener, or {@code null} if no metrics are collected
+   */
+  public static MonthPickerMetricsListener getListener() {
+    MonthPickerMetricsListener current = listener;
+    return current != NONE ? current : null;
+  }
+
+  /**
+   * Returns the listener to notify, which is a no-op listener if no metrics are collected.
+   */
+  static MonthPickerMetricsListener listener() {
+    return listener;
+  }
+
+  /**
+   * Returns whether a listener is set, i.e. whether metrics that are costly to compute are needed.
+   */
+  static boolean isEnabled() {
+    return listener != NONE;
+  }
+}
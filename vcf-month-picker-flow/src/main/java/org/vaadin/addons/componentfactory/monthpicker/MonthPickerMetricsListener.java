@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+/**
+ * Listener notified by all {@link MonthPicker} instances about the work they do, e.g. to collect
+ * metrics about the server load caused by the component.
+ * <p>
+ * The listener is installed process-wide with {@link MonthPickerMetrics#setListener} or, if none
+ * is installed, found with {@link java.util.ServiceLoader}. It is called on the request threads of
+ * all sessions and must therefore be thread-safe and fast. All methods do nothing by default.
+ * </p>
+ *
+ * @see StripedMonthPickerMetrics
+ */
+public interface MonthPickerMetricsListener {
+
+  /**
+   * Called when a value is synchronized from the client, whether it is accepted or not.
+   *
+   * @param picker the picker
+   */
+  default void valueSynchronized(MonthPicker picker) {
+  }
+
+  /**
+   * Called when the value of a picker has changed.
+   *
+   * @param picker the picker
+   * @param fromClient {@code true} if the change originates from the client, {@code false} if it
+   *        was made programmatically
+   */
+  default void valueChanged(MonthPicker picker, boolean fromClient) {
+  }
+
+  /**
+   * Called when the synchronized opened state of a picker has changed on the client.
+   *
+   * @param picker the picker
+   * @param opened the new opened state
+   */
+  default void openedChanged(MonthPicker picker, boolean opened) {
+  }
+
+  /**
+   * Called when the i18n settings of a picker are written to the element.
+   *
+   * @param picker the picker
+   * @param jsonLength the length of the JSON representation of the settings, in characters
+   */
+  default void i18nSerialized(MonthPicker picker, int jsonLength) {
+  }
+
+  /**
+   * Called when a value from the client is rejected because it is out of range or unavailable.
+   *
+   * @param picker the picker
+   */
+  default void valueRejected(MonthPicker picker) {
+  }
+}
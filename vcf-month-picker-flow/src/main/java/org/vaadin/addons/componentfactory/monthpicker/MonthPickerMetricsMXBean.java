@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+/**
+ * Management interface of the month picker metrics, see {@link StripedMonthPickerMetrics}.
+ */
+public interface MonthPickerMetricsMXBean {
+
+  /**
+   * Returns the number of values synchronized from the client, including rejected values.
+   *
+   * @return the number of value synchronizations
+   */
+  long getValueSyncs();
+
+  /**
+   * Returns the number of value changes originating from the client.
+   *
+   * @return the number of client value changes
+   */
+  long getClientValueChanges();
+
+  /**
+   * Returns the number of programmatic value changes.
+   *
+   * @return the number of programmatic value changes
+   */
+  long getProgrammaticValueChanges();
+
+  /**
+   * Returns the number of opened state changes synchronized from the client.
+   *
+   * @return the number of opened state changes
+   */
+  long getOpenedChanges();
+
+  /**
+   * Returns the number of i18n settings written to elements.
+   *
+   * @return the number of i18n serializations
+   */
+  long getI18nSerializations();
+
+  /**
+   * Returns the total length of the JSON representations of the i18n settings written to elements.
+   *
+   * @return the total JSON length, in characters
+   */
+  long getI18nSerializedChars();
+
+  /**
+   * Returns the number of values from the client that were rejected because they were out of range
+   * or unavailable.
+   *
+   * @return the number of rejected values
+   */
+  long getValueRejections();
+
+  /**
+   * Resets all counters to zero.
+   */
+  void reset();
+}
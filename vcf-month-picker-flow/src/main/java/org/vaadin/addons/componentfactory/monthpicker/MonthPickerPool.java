@@ -0,0 +1,259 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import java.io.Serializable;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.BlurNotifier.BlurEvent;
+import com.vaadin.flow.component.ComponentEventListener;
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.FocusNotifier.FocusEvent;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.shared.Registration;
+import jakarta.annotation.Nullable;
+
+/**
+ * Pool of reusable month pickers, e.g. for dynamic forms or grid editors that frequently create
+ * and discard pickers.
+ * <p>
+ * Pickers are taken from the pool with {@link #acquire()} and returned with
+ * {@link #release(MonthPicker)} once they are detached. Returned pickers are reset: the value,
+ * opened change, client timings, attach, detach, focus and blur listeners added while they were in
+ * use are removed, the value, the validity and the i18n settings are cleared and the availability
+ * validator is removed. If the pool has a {@link MonthPickerTemplate template}, it is applied
+ * again, restoring the settings it defines and the visibility of the clear button and auto open.
+ * </p>
+ * <p>
+ * Listeners added in other ways, e.g. with {@code getElement().addEventListener(...)},
+ * {@code getElement().addPropertyChangeListener(...)} or {@link ComponentUtil#addListener}, are not
+ * removed and keep receiving the events of the picker after it has been acquired again. Users of a
+ * pool must remove such listeners themselves before releasing a picker. All other state is kept as
+ * the previous user left it as well, e.g. custom element properties and attributes, theme and class
+ * names, the label, the minimum and maximum if not defined by the template, the read-only and
+ * required states and the value change mode. Users of a pool should either leave this state
+ * unchanged or set it every time they acquire a picker.
+ * </p>
+ * <p>
+ * A pool holds at most {@link #getMaxSize()} idle pickers; further returned pickers are discarded.
+ * Pools are not thread-safe. They are meant to be used by a single UI, see {@link #forUI(UI)}.
+ * </p>
+ */
+public final class MonthPickerPool implements Serializable {
+
+  /**
+   * The default maximum number of idle pickers per pool.
+   */
+  public static final int DEFAULT_MAX_SIZE = 32;
+
+  private final MonthPickerTemplate template;
+  private final ArrayDeque<PooledMonthPicker> idle = new ArrayDeque<>();
+  private int maxSize;
+
+  /**
+   * Creates a pool of pickers without a template.
+   *
+   * @param maxSize the maximum number of idle pickers, must not be negative
+   */
+  public MonthPickerPool(int maxSize) {
+    this(null, maxSize);
+  }
+
+  /**
+   * Creates a pool of pickers configured by the given template.
+   *
+   * @param template the template applied to new and reset pickers, or {@code null}
+   * @param maxSize the maximum number of idle pickers, must not be negative
+   */
+  public MonthPickerPool(@Nullable MonthPickerTemplate template, int maxSize) {
+    this.template = template;
+    setMaxSize(maxSize);
+  }
+
+  /**
+   * Returns the pool of the given UI, creating one without a template and with
+   * {@link #DEFAULT_MAX_SIZE} if the UI has none yet. The pool is released together with the UI.
+   *
+   * @param ui the UI
+   * @return the pool of the UI
+   */
+  public static MonthPickerPool forUI(UI ui) {
+    MonthPickerPool pool = ComponentUtil.getData(ui, MonthPickerPool.class);
+    if (pool == null) {
+      pool = new MonthPickerPool(DEFAULT_MAX_SIZE);
+      ComponentUtil.setData(ui, MonthPickerPool.class, pool);
+    }
+    return pool;
+  }
+
+  /**
+   * Sets the maximum number of idle pickers. Idle pickers exceeding the new maximum are discarded.
+   *
+   * @param maxSize the maximum number of idle pickers, must not be negative
+   */
+  public void setMaxSize(int maxSize) {
+    if (maxSize < 0) {
+      throw new IllegalArgumentException("The maximum pool size must not be negative");
+    }
+    this.maxSize = maxSize;
+    while (idle.size() > maxSize) {
+      idle.pop();
+    }
+  }
+
+  /**
+   * Returns the maximum number of idle pickers.
+   *
+   * @return the maximum number of idle pickers
+   */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Returns the number of idle pickers.
+   *
+   * @return the number of idle pickers
+   */
+  public int size() {
+    return idle.size();
+  }
+
+  /**
+   * Returns an idle picker, or a new one if the pool is empty.
+   *
+   * @return the picker, which is detached and has none of the listeners that are removed on
+   *         release, see {@link MonthPickerPool}
+   */
+  public MonthPicker acquire() {
+    PooledMonthPicker picker = idle.poll();
+    if (picker == null) {
+      picker = new PooledMonthPicker();
+      if (template != null) {
+        template.apply(picker);
+      }
+    }
+    return picker;
+  }
+
+  /**
+   * Resets the given picker and returns it to the pool, unless the pool is full.
+   *
+   * @param picker a detached picker acquired from this pool
+   * @return {@code true} if the picker has been returned to the pool, {@code false} if it has been
+   *         discarded because the pool is full
+   * @throws IllegalArgumentException if the picker has not been acquired from a pool
+   * @throws IllegalStateException if the picker is attached
+   */
+  public boolean release(MonthPicker picker) {
+    if (!(picker instanceof PooledMonthPicker pooled)) {
+      throw new IllegalArgumentException("The picker has not been acquired from a pool");
+    }
+    if (picker.isAttached()) {
+      throw new IllegalStateException("The picker must be detached before it is released");
+    }
+    if (idle.size() >= maxSize) {
+      return false;
+    }
+    pooled.removeListeners();
+    pooled.resetForReuse();
+    if (template != null) {
+      template.apply(pooled);
+    }
+    idle.push(pooled);
+    return true;
+  }
+
+  /**
+   * Picker that keeps track of the listeners added to it, so that they can be removed before the
+   * picker is reused. Listeners that the picker adds internally do not pass through the overridden
+   * methods and are not tracked.
+   */
+  private static final class PooledMonthPicker extends MonthPicker {
+    private final List<TrackedRegistration> registrations = new ArrayList<>();
+
+    @Override
+    public Registration addValueChangeListener(
+        ValueChangeListener<? super ComponentValueChangeEvent<MonthPicker, YearMonth>> listener) {
+      return track(super.addValueChangeListener(listener));
+    }
+
+    @Override
+    public Registration addOpenedChangeListener(
+        ComponentEventListener<OpenedChangeEvent> listener) {
+      return track(super.addOpenedChangeListener(listener));
+    }
+
+    @Override
+    public Registration addClientTimingsListener(
+        ComponentEventListener<ClientTimingsEvent> listener) {
+      return track(super.addClientTimingsListener(listener));
+    }
+
+    @Override
+    public Registration addAttachListener(ComponentEventListener<AttachEvent> listener) {
+      return track(super.addAttachListener(listener));
+    }
+
+    @Override
+    public Registration addDetachListener(ComponentEventListener<DetachEvent> listener) {
+      return track(super.addDetachListener(listener));
+    }
+
+    @Override
+    public Registration addFocusListener(ComponentEventListener<FocusEvent<MonthPicker>> listener) {
+      return track(super.addFocusListener(listener));
+    }
+
+    @Override
+    public Registration addBlurListener(ComponentEventListener<BlurEvent<MonthPicker>> listener) {
+      return track(super.addBlurListener(listener));
+    }
+
+    private Registration track(Registration registration) {
+      TrackedRegistration tracked = new TrackedRegistration(registration);
+      registrations.add(tracked);
+      return tracked;
+    }
+
+    private void removeListeners() {
+      for (int i = registrations.size() - 1; i >= 0; i--) {
+        registrations.get(i).remove();
+      }
+    }
+
+    /**
+     * Registration that stops being tracked once it is removed, either by the user or by the
+     * pool.
+     */
+    private final class TrackedRegistration implements Registration {
+      private final Registration registration;
+
+      private TrackedRegistration(Registration registration) {
+        this.registration = registration;
+      }
+
+      @Override
+      public void remove() {
+        if (registrations.remove(this)) {
+          registration.remove();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import java.io.Serializable;
+import java.time.YearMonth;
+import java.util.Objects;
+import jakarta.annotation.Nullable;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
+
+/**
+ * Immutable configuration shared by many {@link MonthPicker} instances.
+ * <p>
+ * A template is built once, e.g. at application startup, and can be used from any thread to
+ * create or configure pickers. The i18n settings are copied when the template is built; all
+ * pickers configured by the template share that unmodifiable copy and its JSON representation,
+ * which is computed only once, until their settings are requested for modification, see
+ * {@link MonthPicker#getI18n()}.
+ * </p>
+ *
+ * <pre>
+ * static final MonthPickerTemplate REPORT_MONTH = MonthPickerTemplate.builder()
+ *     .setLabel("Month").setMinYear(2000).setClearButtonVisible(true)
+ *     .seti18n(MonthPickerI18n.forLocale(Locale.GERMAN).setFormat("MM.YYYY")).build();
+ *
+ * MonthPicker picker = REPORT_MONTH.create();
+ * </pre>
+ */
+public final class MonthPickerTemplate implements Serializable {
+
+  private final String label;
+  private final String placeholder;
+  private final String helperText;
+  private final YearMonth min;
+  private final YearMonth max;
+  private final boolean clearButtonVisible;
+  private final boolean autoOpen;
+  private final MonthPickerI18n i18n;
+
+  private MonthPickerTemplate(Builder builder) {
+    this.label = builder.label;
+    this.placeholder = builder.placeholder;
+    this.helperText = builder.helperText;
+    this.min = builder.min;
+    this.max = builder.max;
+    this.clearButtonVisible = builder.clearButtonVisible;
+    this.autoOpen = builder.autoOpen;
+    this.i18n = builder.i18n != null ? builder.i18n.unmodifiableCopy() : null;
+  }
+
+  /**
+   * Returns a builder for a new template.
+   *
+   * @return the builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Creates a new picker configured by this template.
+   *
+   * @return the new picker
+   */
+  public MonthPicker create() {
+    return apply(new MonthPicker());
+  }
+
+  /**
+   * Configures the given picker with the settings of this template. The visibility of the clear
+   * button and the auto open setting are always applied; other settings that are not set in this
+   * template are left unchanged.
+   *
+   * @param picker the picker to configure (must not be {@code null})
+   * @return the given picker
+   */
+  public MonthPicker apply(MonthPicker picker) {
+    Objects.requireNonNull(picker, "The picker should not be null");
+    if (label != null) {
+      picker.setLabel(label);
+    }
+    if (placeholder != null) {
+      picker.setPlaceholder(placeholder);
+    }
+    if (helperText != null) {
+      picker.setHelperText(helperText);
+    }
+    if (min != null) {
+      picker.setMin(min);
+    }
+    if (max != null) {
+      picker.setMax(max);
+    }
+    picker.setClearButtonVisible(clearButtonVisible);
+    picker.setAutoOpen(autoOpen);
+    if (i18n != null) {
+      picker.seti18n(i18n);
+    }
+    return picker;
+  }
+
+  /**
+   * Returns the shared i18n settings of this template.
+   *
+   * @return the unmodifiable i18n settings, or {@code null} if not set
+   */
+  public MonthPickerI18n getI18n() {
+    return i18n;
+  }
+
+  /**
+   * Builder for {@link MonthPickerTemplate} instances.
+   */
+  public static final class Builder {
+
+    private String label;
+    private String placeholder;
+    private String helperText;
+    private YearMonth min;
+    private YearMonth max;
+    private boolean clearButtonVisible;
+    private boolean autoOpen = true;
+    private MonthPickerI18n i18n;
+
+    private Builder() {}
+
+    /**
+     * Sets the label, see {@link MonthPicker#setLabel(String)}.
+     *
+     * @param label the label
+     * @return this builder for method chaining
+     */
+    public Builder setLabel(@Nullable String label) {
+      this.label = label;
+      return this;
+    }
+
+    /**
+     * Sets the placeholder, see {@link MonthPicker#setPlaceholder(String)}.
+     *
+     * @param placeholder the placeholder
+     * @return this builder for method chaining
+     */
+    public Builder setPlaceholder(@Nullable String placeholder) {
+      this.placeholder = placeholder;
+      return this;
+    }
+
+    /**
+     * Sets the helper text, see {@link MonthPicker#setHelperText(String)}.
+     *
+     * @param helperText the helper text
+     * @return this builder for method chaining
+     */
+    public Builder setHelperText(@Nullable String helperText) {
+      this.helperText = helperText;
+      return this;
+    }
+
+    /**
+     * Sets the minimum selectable year, see {@link MonthPicker#setMinYear(int)}.
+     *
+     * @param minYear the minimum year
+     * @return this builder for method chaining
+     */
+    public Builder setMinYear(int minYear) {
+      return setMin(YearMonth.of(minYear, 1));
+    }
+
+    /**
+     * Sets the maximum selectable year, see {@link MonthPicker#setMaxYear(int)}.
+     *
+     * @param maxYear the maximum year
+     * @return this builder for method chaining
+     */
+    public Builder setMaxYear(int maxYear) {
+      return setMax(YearMonth.of(maxYear, 12));
+    }
+
+    /**
+     * Sets the minimum selectable month, see {@link MonthPicker#setMin(YearMonth)}.
+     *
+     * @param min the minimum month, or {@code null} for no restriction
+     * @return this builder for method chaining
+     */
+    public Builder setMin(@Nullable YearMonth min) {
+      this.min = min;
+      return this;
+    }
+
+    /**
+     * Sets the maximum selectable month, see {@link MonthPicker#setMax(YearMonth)}.
+     *
+     * @param max the maximum month, or {@code null} for no restriction
+     * @return this builder for method chaining
+     */
+    public Builder setMax(@Nullable YearMonth max) {
+      this.max = max;
+      return this;
+    }
+
+    /**
+     * Sets whether the clear button is visible, see
+     * {@link MonthPicker#setClearButtonVisible(boolean)}.
+     *
+     * @param clearButtonVisible {@code true} to show the clear button
+     * @return this builder for method chaining
+     */
+    public Builder setClearButtonVisible(boolean clearButtonVisible) {
+      this.clearButtonVisible = clearButtonVisible;
+      return this;
+    }
+
+    /**
+     * Sets whether the overlay opens automatically, see {@link MonthPicker#setAutoOpen(boolean)}.
+     *
+     * @param autoOpen {@code false} to disable auto open
+     * @return this builder for method chaining
+     */
+    public Builder setAutoOpen(boolean autoOpen) {
+      this.autoOpen = autoOpen;
+      return this;
+    }
+
+    /**
+     * Sets the i18n settings. The settings are copied when the template is built, later
+     * modifications do not affect the template.
+     *
+     * @param i18n the i18n settings, or {@code null} for the defaults of the web component
+     * @return this builder for method chaining
+     */
+    public Builder seti18n(@Nullable MonthPickerI18n i18n) {
+      this.i18n = i18n;
+      return this;
+    }
+
+    /**
+     * Builds the template.
+     *
+     * @return the new template
+     */
+    public MonthPickerTemplate build() {
+      return new MonthPickerTemplate(this);
+    }
+  }
+}
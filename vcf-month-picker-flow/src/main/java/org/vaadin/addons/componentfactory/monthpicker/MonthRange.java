@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.time.YearMonth;
+import java.util.Objects;
+import jakarta.annotation.Nullable;
+
+/**
+ * Immutable range of months, from a start month to an end month, both inclusive. Either end may be
+ * open ({@code null}).
+ *
+ * @see MonthRangePicker
+ */
+public final class MonthRange implements Serializable {
+
+  private static final MonthRange EMPTY = new MonthRange(null, null);
+
+  private final YearMonth start;
+  private final YearMonth end;
+
+  private MonthRange(YearMonth start, YearMonth end) {
+    this.start = start;
+    this.end = end;
+  }
+
+  /**
+   * Returns the empty range, with neither a start nor an end.
+   *
+   * @return the empty range
+   */
+  public static MonthRange empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Returns the range between the given months.
+   *
+   * @param start the first month of the range, or {@code null} for an open start
+   * @param end the last month of the range, or {@code null} for an open end
+   * @return the range
+   * @throws IllegalArgumentException if the start is after the end
+   */
+  public static MonthRange of(@Nullable YearMonth start, @Nullable YearMonth end) {
+    if (start == null && end == null) {
+      return EMPTY;
+    }
+    if (start != null && end != null && start.isAfter(end)) {
+      throw new IllegalArgumentException(
+          "The start " + start + " must not be after the end " + end);
+    }
+    return new MonthRange(start, end);
+  }
+
+  /**
+   * Returns the first month of the range.
+   *
+   * @return the start, or {@code null} if the start is open
+   */
+  public YearMonth getStart() {
+    return start;
+  }
+
+  /**
+   * Returns the last month of the range.
+   *
+   * @return the end, or {@code null} if the end is open
+   */
+  public YearMonth getEnd() {
+    return end;
+  }
+
+  /**
+   * Returns whether neither start nor end is set.
+   *
+   * @return {@code true} if the range is empty, {@code false} otherwise
+   */
+  public boolean isEmpty() {
+    return start == null && end == null;
+  }
+
+  /**
+   * Returns whether the given month is within this range. Open ends are unbounded.
+   *
+   * @param month the month to check (must not be {@code null})
+   * @return {@code true} if the month is within this range, {@code false} otherwise
+   */
+  public boolean contains(YearMonth month) {
+    Objects.requireNonNull(month, "The month should not be null");
+    return (start == null || !month.isBefore(start)) && (end == null || !month.isAfter(end));
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof MonthRange other && Objects.equals(start, other.start)
+        && Objects.equals(end, other.end);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(start, end);
+  }
+
+  private Object writeReplace() {
+    return new SerializedForm(this);
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("MonthRange is serialized through its serialized form");
+  }
+
+  @Override
+  public String toString() {
+    return (start == null ? "" : start.toString()) + "/" + (end == null ? "" : end.toString());
+  }
+
+  /**
+   * Serialized form of a range, storing the ends as packed values, see {@link YearMonthCodec}. The
+   * values are packed into {@code long}s, as a picker accepts years beyond the range of packed
+   * {@code int}s.
+   */
+  private static final class SerializedForm implements Serializable {
+
+    private static final long OPEN = Long.MIN_VALUE;
+
+    private final long start;
+    private final long end;
+
+    private SerializedForm(MonthRange range) {
+      this.start = range.start == null ? OPEN : YearMonthCodec.packExtended(range.start);
+      this.end = range.end == null ? OPEN : YearMonthCodec.packExtended(range.end);
+    }
+
+    private Object readResolve() {
+      return MonthRange.of(start == OPEN ? null : YearMonthCodec.unpackExtended(start),
+          end == OPEN ? null : YearMonthCodec.unpackExtended(end));
+    }
+  }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import com.vaadin.flow.component.AbstractCompositeField;
+import com.vaadin.flow.component.HasSize;
+import com.vaadin.flow.component.HasStyle;
+import com.vaadin.flow.component.HasValidation;
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.dom.DomEvent;
+import jakarta.annotation.Nullable;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
+
+/**
+ * Field for selecting a range of months with a start and an end <code>vcf-month-picker</code>
+ * element.
+ * <p>
+ * The two pickers do not synchronize their values individually. Each edit sends the changed value
+ * with a single commit event, and the field validates the resulting range once and updates its
+ * {@link MonthRange} value in one step, so one edit results in one round trip and one value change
+ * event. A month outside the limits of the field, see {@link #setMin(YearMonth)} and
+ * {@link #setAvailabilityValidator(MonthAvailabilityValidator)}, or a start after the end is not
+ * committed: the edited picker is reset to the committed month and marked invalid until a valid
+ * range is committed.
+ * </p>
+ */
+public class MonthRangePicker extends AbstractCompositeField<Div, MonthRangePicker, MonthRange>
+    implements HasSize, HasStyle, HasValidation {
+
+  private static final String VALUE_EVENT_DATA = "element.value";
+
+  private final MonthPicker startPicker = new MonthPicker();
+
+  private final MonthPicker endPicker = new MonthPicker();
+
+  private boolean outOfOrder;
+
+  /**
+   * Creates a picker with an empty range.
+   */
+  public MonthRangePicker() {
+    this(MonthRange.empty());
+  }
+
+  /**
+   * Creates a picker with the given initial range.
+   *
+   * @param initialRange the initial range, {@code null} is treated as the empty range
+   */
+  public MonthRangePicker(MonthRange initialRange) {
+    super(MonthRange.empty());
+    getContent().getStyle().set("display", "inline-flex").set("gap", "0.5em")
+        .set("align-items", "baseline");
+    getContent().add(startPicker, endPicker);
+    initCommit(startPicker);
+    initCommit(endPicker);
+    setValue(initialRange);
+  }
+
+  private void initCommit(MonthPicker picker) {
+    // replace the per-picker value synchronization with the commit event of the range
+    picker.setValueSynchronizedEvent(null);
+    picker.getElement().addEventListener("value-changed", event -> commitFromClient(picker, event))
+        .addEventData(VALUE_EVENT_DATA);
+  }
+
+  /**
+   * Sets the range.
+   *
+   * @param value the range, {@code null} is treated as the empty range
+   */
+  @Override
+  public void setValue(MonthRange value) {
+    super.setValue(value == null ? MonthRange.empty() : value);
+  }
+
+  /**
+   * Returns the picker for the start of the range.
+   */
+  MonthPicker getStartPicker() {
+    return startPicker;
+  }
+
+  /**
+   * Returns the picker for the end of the range.
+   */
+  MonthPicker getEndPicker() {
+    return endPicker;
+  }
+
+  /**
+   * Sets the label of the start picker.
+   *
+   * @param label the label, or {@code null} to remove it
+   */
+  public void setStartLabel(String label) {
+    startPicker.setLabel(label);
+  }
+
+  /**
+   * Gets the label of the start picker.
+   *
+   * @return the label, or {@code null} if not set
+   */
+  public String getStartLabel() {
+    return startPicker.getLabel();
+  }
+
+  /**
+   * Sets the label of the end picker.
+   *
+   * @param label the label, or {@code null} to remove it
+   */
+  public void setEndLabel(String label) {
+    endPicker.setLabel(label);
+  }
+
+  /**
+   * Gets the label of the end picker.
+   *
+   * @return the label, or {@code null} if not set
+   */
+  public String getEndLabel() {
+    return endPicker.getLabel();
+  }
+
+  /**
+   * Sets the minimum selectable month of both pickers, see {@link MonthPicker#setMin(YearMonth)}.
+   *
+   * @param min the minimum month, or {@code null} to remove the restriction
+   */
+  public void setMin(@Nullable YearMonth min) {
+    startPicker.setMin(min);
+    endPicker.setMin(min);
+  }
+
+  /**
+   * Gets the minimum selectable month.
+   *
+   * @return the minimum month, or {@code null} if not set
+   */
+  public YearMonth getMin() {
+    return startPicker.getMin();
+  }
+
+  /**
+   * Sets the maximum selectable month of both pickers, see {@link MonthPicker#setMax(YearMonth)}.
+   *
+   * @param max the maximum month, or {@code null} to remove the restriction
+   */
+  public void setMax(@Nullable YearMonth max) {
+    startPicker.setMax(max);
+    endPicker.setMax(max);
+  }
+
+  /**
+   * Gets the maximum selectable month.
+   *
+   * @return the maximum month, or {@code null} if not set
+   */
+  public YearMonth getMax() {
+    return startPicker.getMax();
+  }
+
+  /**
+   * Sets the server-side validator of the months that can be selected in both pickers, see
+   * {@link MonthPicker#setAvailabilityValidator(MonthAvailabilityValidator)}.
+   *
+   * @param availabilityValidator the validator, or {@code null} to make all months within range
+   *        available
+   */
+  public void setAvailabilityValidator(@Nullable MonthAvailabilityValidator availabilityValidator) {
+    startPicker.setAvailabilityValidator(availabilityValidator);
+    endPicker.setAvailabilityValidator(availabilityValidator);
+  }
+
+  /**
+   * Returns the server-side validator of the months that can be selected.
+   *
+   * @return the validator, or {@code null} if not set
+   */
+  public MonthAvailabilityValidator getAvailabilityValidator() {
+    return startPicker.getAvailabilityValidator();
+  }
+
+  /**
+   * Sets the internationalization properties of both pickers, see
+   * {@link MonthPicker#seti18n(MonthPickerI18n)}.
+   *
+   * @param i18n the {@link MonthPickerI18n} object with translation settings (must not be
+   *        {@code null})
+   */
+  public void seti18n(MonthPickerI18n i18n) {
+    startPicker.seti18n(i18n);
+    endPicker.seti18n(i18n);
+  }
+
+  /**
+   * Sets the error message, which is shown by the end picker while the field is invalid.
+   *
+   * @param errorMessage the error message
+   */
+  @Override
+  public void setErrorMessage(String errorMessage) {
+    endPicker.setErrorMessage(errorMessage);
+  }
+
+  @Override
+  public String getErrorMessage() {
+    return endPicker.getErrorMessage();
+  }
+
+  @Override
+  public void setInvalid(boolean invalid) {
+    outOfOrder = false;
+    startPicker.setInvalid(invalid);
+    endPicker.setInvalid(invalid);
+  }
+
+  @Override
+  public boolean isInvalid() {
+    return startPicker.isInvalid() || endPicker.isInvalid() || outOfOrder;
+  }
+
+  /**
+   * Sets whether both pickers are read-only. Edits sent by the client while the field is read-only
+   * are ignored.
+   *
+   * @param readOnly {@code true} to make the field read-only, {@code false} otherwise
+   */
+  @Override
+  public void setReadOnly(boolean readOnly) {
+    startPicker.setReadOnly(readOnly);
+    endPicker.setReadOnly(readOnly);
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return startPicker.isReadOnly();
+  }
+
+  @Override
+  public void setRequiredIndicatorVisible(boolean requiredIndicatorVisible) {
+    startPicker.setRequiredIndicatorVisible(requiredIndicatorVisible);
+    endPicker.setRequiredIndicatorVisible(requiredIndicatorVisible);
+  }
+
+  @Override
+  public boolean isRequiredIndicatorVisible() {
+    return startPicker.isRequiredIndicatorVisible();
+  }
+
+  @Override
+  protected void setPresentationValue(MonthRange newPresentationValue) {
+    startPicker.setValue(newPresentationValue.getStart());
+    endPicker.setValue(newPresentationValue.getEnd());
+    if (outOfOrder) {
+      setInvalid(false);
+    }
+  }
+
+  /**
+   * Commits the month sent with the commit event of the given picker. The range resulting from the
+   * edit is validated once, and either committed together with the month of the picker, or the
+   * picker is reset to the committed month and marked invalid.
+   */
+  private void commitFromClient(MonthPicker picker, DomEvent event) {
+    if (isReadOnly()) {
+      return;
+    }
+    MonthPickerMetricsListener metrics = MonthPickerMetrics.listener();
+    metrics.valueSynchronized(picker);
+    YearMonth month;
+    try {
+      month = YearMonthCodec.parse(event.getEventData().path(VALUE_EVENT_DATA).asString(""));
+    } catch (DateTimeParseException e) {
+      picker.reject(metrics);
+      return;
+    }
+    if (!picker.isAvailable(month)) {
+      picker.reject(metrics);
+      return;
+    }
+    YearMonth start = picker == startPicker ? month : startPicker.getValue();
+    YearMonth end = picker == endPicker ? month : endPicker.getValue();
+    if (start != null && end != null && start.isAfter(end)) {
+      outOfOrder = true;
+      picker.reject(metrics);
+      return;
+    }
+    outOfOrder = false;
+    picker.acceptCommittedValue(month);
+    // the other picker shows its committed month, so an earlier rejection is resolved as well
+    MonthPicker other = picker == startPicker ? endPicker : startPicker;
+    other.acceptCommittedValue(other.getValue());
+    setModelValue(MonthRange.of(start, end), true);
+  }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.stream.Collectors;
+import com.vaadin.flow.component.AbstractCompositeField;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.HasHelper;
+import com.vaadin.flow.component.HasLabel;
+import com.vaadin.flow.component.HasSize;
+import com.vaadin.flow.component.HasStyle;
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.component.html.Span;
+import jakarta.annotation.Nullable;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
+
+/**
+ * Field for selecting a set of months with a single <code>vcf-month-picker</code> element.
+ * <p>
+ * Each month picked in the overlay is toggled in the selection, i.e. added if it is not selected yet
+ * and removed otherwise. The input field itself is emptied after each pick, and the selected months
+ * are listed, formatted with the primary format of the i18n settings, in a read-only summary next to
+ * it. The summary is a polite live region, so screen readers announce changes of the selection.
+ * </p>
+ * <p>
+ * The value is a {@link YearMonthSet}, which stores the months as a bitset and can be converted to a
+ * compact bitmask string for storage, see {@link YearMonthSet#toBitmask()}. The web component has no
+ * multi-select mode, so each pick is still sent to the server as a single month. Picked months are
+ * limited by {@link #setMin(YearMonth)} and {@link #setMax(YearMonth)}, and months that would make
+ * the selection span more than {@link YearMonthSet#MAX_YEARS} years are ignored.
+ * </p>
+ */
+public class MultiMonthPicker
+    extends AbstractCompositeField<Div, MultiMonthPicker, Set<YearMonth>>
+    implements HasLabel, HasHelper, HasSize, HasStyle {
+
+  private final MonthPicker picker = new MonthPicker();
+
+  private final Span summary = new Span();
+
+  /**
+   * Creates a picker with an empty selection.
+   */
+  public MultiMonthPicker() {
+    this(YearMonthSet.empty());
+  }
+
+  /**
+   * Creates a picker with the given initial selection.
+   *
+   * @param initialMonths the initially selected months (must not be {@code null})
+   */
+  public MultiMonthPicker(Set<YearMonth> initialMonths) {
+    super(YearMonthSet.empty());
+    getContent().getStyle().set("display", "inline-flex").set("gap", "0.5em")
+        .set("align-items", "baseline");
+    summary.getElement().setAttribute("aria-live", "polite");
+    summary.getElement().setAttribute("part", "summary");
+    getContent().add(picker, summary);
+    picker.addValueChangeListener(event -> {
+      if (event.isFromClient()) {
+        onMonthPicked(event.getValue());
+      }
+    });
+    setValue(initialMonths);
+  }
+
+  /**
+   * Sets the selected months.
+   *
+   * @param value the selected months, {@code null} is treated as the empty selection
+   */
+  @Override
+  public void setValue(Set<YearMonth> value) {
+    super.setValue(value == null ? YearMonthSet.empty() : YearMonthSet.copyOf(value));
+  }
+
+  /**
+   * Returns the selected months.
+   *
+   * @return the selected months, never {@code null}
+   */
+  @Override
+  public YearMonthSet getValue() {
+    return (YearMonthSet) super.getValue();
+  }
+
+  /**
+   * Returns the picker used for picking the months. It can be used for configuring the picker
+   * further; its value is managed by this field.
+   *
+   * @return the picker
+   */
+  public MonthPicker getPicker() {
+    return picker;
+  }
+
+  @Override
+  public void setLabel(String label) {
+    picker.setLabel(label);
+  }
+
+  @Override
+  public String getLabel() {
+    return picker.getLabel();
+  }
+
+  @Override
+  public void setHelperText(String helperText) {
+    picker.setHelperText(helperText);
+  }
+
+  @Override
+  public String getHelperText() {
+    return picker.getHelperText();
+  }
+
+  @Override
+  public void setHelperComponent(Component component) {
+    picker.setHelperComponent(component);
+  }
+
+  @Override
+  public Component getHelperComponent() {
+    return picker.getHelperComponent();
+  }
+
+  /**
+   * Sets the placeholder of the input field.
+   *
+   * @param placeholder the placeholder, or {@code null} to remove it
+   */
+  public void setPlaceholder(@Nullable String placeholder) {
+    picker.setPlaceholder(placeholder);
+  }
+
+  /**
+   * Gets the placeholder of the input field.
+   *
+   * @return the placeholder, or {@code null} if not set
+   */
+  public String getPlaceholder() {
+    return picker.getPlaceholder();
+  }
+
+  /**
+   * Sets the internationalization properties, see {@link MonthPicker#seti18n(MonthPickerI18n)}.
+   *
+   * @param i18n the {@link MonthPickerI18n} object with translation settings (must not be
+   *        {@code null})
+   */
+  public void seti18n(MonthPickerI18n i18n) {
+    picker.seti18n(i18n);
+    updateSummary(getValue());
+  }
+
+  /**
+   * Returns the current internationalization settings.
+   *
+   * @return the {@link MonthPickerI18n} settings
+   */
+  public MonthPickerI18n getI18n() {
+    return picker.getI18n();
+  }
+
+  /**
+   * Returns the text of the read-only summary of the selected months.
+   *
+   * @return the summary, empty if no month is selected
+   */
+  public String getSummary() {
+    return summary.getText();
+  }
+
+  /**
+   * Sets the minimum selectable month, see {@link MonthPicker#setMin(YearMonth)}.
+   *
+   * @param min the minimum month, or {@code null} to remove the restriction
+   */
+  public void setMin(@Nullable YearMonth min) {
+    picker.setMin(min);
+  }
+
+  /**
+   * Gets the minimum selectable month.
+   *
+   * @return the minimum month, or {@code null} if not set
+   */
+  public YearMonth getMin() {
+    return picker.getMin();
+  }
+
+  /**
+   * Sets the maximum selectable month, see {@link MonthPicker#setMax(YearMonth)}.
+   *
+   * @param max the maximum month, or {@code null} to remove the restriction
+   */
+  public void setMax(@Nullable YearMonth max) {
+    picker.setMax(max);
+  }
+
+  /**
+   * Gets the maximum selectable month.
+   *
+   * @return the maximum month, or {@code null} if not set
+   */
+  public YearMonth getMax() {
+    return picker.getMax();
+  }
+
+  @Override
+  protected void setPresentationValue(Set<YearMonth> newPresentationValue) {
+    updateSummary(YearMonthSet.copyOf(newPresentationValue));
+  }
+
+  /**
+   * Sets whether the field is read-only. Months picked on the client while the field is read-only
+   * are ignored.
+   *
+   * @param readOnly {@code true} to make the field read-only, {@code false} otherwise
+   */
+  @Override
+  public void setReadOnly(boolean readOnly) {
+    picker.setReadOnly(readOnly);
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return picker.isReadOnly();
+  }
+
+  @Override
+  public void setRequiredIndicatorVisible(boolean requiredIndicatorVisible) {
+    picker.setRequiredIndicatorVisible(requiredIndicatorVisible);
+  }
+
+  @Override
+  public boolean isRequiredIndicatorVisible() {
+    return picker.isRequiredIndicatorVisible();
+  }
+
+  private void onMonthPicked(YearMonth month) {
+    if (month != null) {
+      picker.clear();
+      // months too far from the selected ones cannot be added, see YearMonthSet.MAX_YEARS
+      YearMonthSet months = getValue();
+      if (!isReadOnly() && (months.contains(month) || months.isWithinSpan(month))) {
+        setModelValue(months.toggle(month), true);
+        updateSummary(getValue());
+      }
+    }
+  }
+
+  private void updateSummary(YearMonthSet months) {
+    MonthPickerFormat format = picker.getFormat();
+    summary.setText(months.stream().map(format::format).collect(Collectors.joining(", ")));
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Metrics listener that counts the work of all month pickers in striped counters
+ * ({@link LongAdder}), so that concurrent requests do not contend for a single counter. The
+ * counters can be exposed as a JMX MBean:
+ *
+ * <pre>
+ * StripedMonthPickerMetrics metrics = StripedMonthPickerMetrics.install();
+ * </pre>
+ *
+ * The MBean is registered as {@value #OBJECT_NAME}.
+ */
+public class StripedMonthPickerMetrics
+    implements MonthPickerMetricsListener, MonthPickerMetricsMXBean {
+
+  /**
+   * The name under which the metrics are registered with the platform MBean server.
+   */
+  public static final String OBJECT_NAME =
+      "org.vaadin.addons.componentfactory.monthpicker:type=MonthPickerMetrics";
+
+  private final LongAdder valueSyncs = new LongAdder();
+  private final LongAdder clientValueChanges = new LongAdder();
+  private final LongAdder programmaticValueChanges = new LongAdder();
+  private final LongAdder openedChanges = new LongAdder();
+  private final LongAdder i18nSerializations = new LongAdder();
+  private final LongAdder i18nSerializedChars = new LongAdder();
+  private final LongAdder valueRejections = new LongAdder();
+
+  /**
+   * Creates new metrics, installs them as the {@link MonthPickerMetrics#setListener listener} of
+   * all month pickers and registers them with the platform MBean server, replacing previously
+   * registered metrics.
+   *
+   * @return the installed metrics
+   * @throws IllegalStateException if the MBean cannot be registered
+   */
+  public static StripedMonthPickerMetrics install() {
+    StripedMonthPickerMetrics metrics = new StripedMonthPickerMetrics();
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      ObjectName name = new ObjectName(OBJECT_NAME);
+      if (server.isRegistered(name)) {
+        server.unregisterMBean(name);
+      }
+      server.registerMBean(metrics, name);
+    } catch (JMException e) {
+      throw new IllegalStateException("Could not register the month picker metrics MBean", e);
+    }
+    MonthPickerMetrics.setListener(metrics);
+    return metrics;
+  }
+
+  /**
+   * Uninstalls the metrics of all month pickers and unregisters them from the platform MBean server
+   * if registered.
+   *
+   * @throws IllegalStateException if the MBean cannot be unregistered
+   */
+  public static void uninstall() {
+    MonthPickerMetrics.setListener(null);
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      ObjectName name = new ObjectName(OBJECT_NAME);
+      if (server.isRegistered(name)) {
+        server.unregisterMBean(name);
+      }
+    } catch (JMException e) {
+      throw new IllegalStateException("Could not unregister the month picker metrics MBean", e);
+    }
+  }
+
+  @Override
+  public void valueSynchronized(MonthPicker picker) {
+    valueSyncs.increment();
+  }
+
+  @Override
+  public void valueChanged(MonthPicker picker, boolean fromClient) {
+    (fromClient ? clientValueChanges : programmaticValueChanges).increment();
+  }
+
+  @Override
+  public void openedChanged(MonthPicker picker, boolean opened) {
+    openedChanges.increment();
+  }
+
+  @Override
+  public void i18nSerialized(MonthPicker picker, int jsonLength) {
+    i18nSerializations.increment();
+    i18nSerializedChars.add(jsonLength);
+  }
+
+  @Override
+  public void valueRejected(MonthPicker picker) {
+    valueRejections.increment();
+  }
+
+  @Override
+  public long getValueSyncs() {
+    return valueSyncs.sum();
+  }
+
+  @Override
+  public long getClientValueChanges() {
+    return clientValueChanges.sum();
+  }
+
+  @Override
+  public long getProgrammaticValueChanges() {
+    return programmaticValueChanges.sum();
+  }
+
+  @Override
+  public long getOpenedChanges() {
+    return openedChanges.sum();
+  }
+
+  @Override
+  public long getI18nSerializations() {
+    return i18nSerializations.sum();
+  }
+
+  @Override
+  public long getI18nSerializedChars() {
+    return i18nSerializedChars.sum();
+  }
+
+  @Override
+  public long getValueRejections() {
+    return valueRejections.sum();
+  }
+
+  @Override
+  public void reset() {
+    valueSyncs.reset();
+    clientValueChanges.reset();
+    programmaticValueChanges.reset();
+    openedChanges.reset();
+    i18nSerializations.reset();
+    i18nSerializedChars.reset();
+    valueRejections.reset();
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import java.time.YearMonth;
+
+/**
+ * Conversions between {@link YearMonth} values, their packed integer representation and the ISO
+ * {@code yyyy-MM} string used by the {@code value} property of the <code>vcf-month-picker</code>
+ * element.
+ * <p>
+ * The packed representation of a year-month is {@code year * 12 + (month - 1)}, i.e. the number of
+ * months since January of year 0. Consecutive months have consecutive packed values, so packed
+ * values can be compared, subtracted and used as indexes directly.
+ * <p>
+ * For a window of years, the {@link YearMonth} instances and their ISO strings are preallocated
+ * once, so that parsing and formatting values within that window does not allocate. The window
+ * defaults to the years {@value #DEFAULT_MIN_YEAR} - {@value #DEFAULT_MAX_YEAR} and can be changed
+ * with the system properties {@value #MIN_YEAR_PROPERTY} and {@value #MAX_YEAR_PROPERTY}.
+ */
+public final class YearMonthCodec {
+
+  /**
+   * System property defining the first year of the preallocated value table.
+   */
+  public static final String MIN_YEAR_PROPERTY = "vcf-month-picker.codec.minYear";
+
+  /**
+   * System property defining the last year of the preallocated value table.
+   */
+  public static final String MAX_YEAR_PROPERTY = "vcf-month-picker.codec.maxYear";
+
+  static final int DEFAULT_MIN_YEAR = 1900;
+
+  static final int DEFAULT_MAX_YEAR = 2199;
+
+  static final int TABLE_MIN_YEAR = Integer.getInteger(MIN_YEAR_PROPERTY, DEFAULT_MIN_YEAR);
+
+  static final int TABLE_MAX_YEAR = Integer.getInteger(MAX_YEAR_PROPERTY, DEFAULT_MAX_YEAR);
+
+  private static final int TABLE_OFFSET;
+  private static final YearMonth[] YEAR_MONTHS;
+  private static final String[] ISO_STRINGS;
+
+  static {
+    if (TABLE_MIN_YEAR < 0 || TABLE_MAX_YEAR > 9999 || TABLE_MIN_YEAR > TABLE_MAX_YEAR) {
+      throw new IllegalArgumentException("Invalid year window for " + MIN_YEAR_PROPERTY + " and "
+          + MAX_YEAR_PROPERTY + ": " + TABLE_MIN_YEAR + " - " + TABLE_MAX_YEAR
+          + ". Years must be between 0 and 9999, the minimum not greater than the maximum.");
+    }
+    TABLE_OFFSET = pack(TABLE_MIN_YEAR, 1);
+    int size = (TABLE_MAX_YEAR - TABLE_MIN_YEAR + 1) * 12;
+    YEAR_MONTHS = new YearMonth[size];
+    ISO_STRINGS = new String[size];
+    for (int i = 0; i < size; i++) {
+      YearMonth yearMonth = YearMonth.of(getYear(TABLE_OFFSET + i), getMonth(TABLE_OFFSET + i));
+      YEAR_MONTHS[i] = yearMonth;
+      ISO_STRINGS[i] = yearMonth.toString();
+    }
+  }
+
+  private YearMonthCodec() {}
+
+  /**
+   * Returns the packed representation of the given year-month.
+   *
+   * @param yearMonth the year-month (must not be {@code null})
+   * @return the packed value
+   * @throws ArithmeticException if the year is outside the range representable as packed value
+   */
+  public static int pack(YearMonth yearMonth) {
+    return pack(yearMonth.getYear(), yearMonth.getMonthValue());
+  }
+
+  /**
+   * Returns the packed representation of the given year and month.
+   *
+   * @param year the year
+   * @param month the month, from 1 (January) to 12 (December)
+   * @return the packed value
+   * @throws ArithmeticException if the year is outside the range representable as packed value
+   */
+  public static int pack(int year, int month) {
+    return Math.addExact(Math.multiplyExact(year, 12), month - 1);
+  }
+
+  /**
+   * Returns the packed representation of the given year-month as a {@code long}, which cannot
+   * overflow for any {@link YearMonth}, e.g. for comparing values received from the client with
+   * packed limits.
+   *
+   * @param yearMonth the year-month (must not be {@code null})
+   * @return the packed value
+   */
+  static long packExtended(YearMonth yearMonth) {
+    return yearMonth.getYear() * 12L + yearMonth.getMonthValue() - 1;
+  }
+
+  /**
+   * Returns whether the given year-month can be packed into an {@code int}, see
+   * {@link #pack(YearMonth)}.
+   *
+   * @param yearMonth the year-month (must not be {@code null})
+   * @return {@code true} if the year-month can be packed, {@code false} otherwise
+   */
+  static boolean isPackable(YearMonth yearMonth) {
+    long packed = packExtended(yearMonth);
+    return packed == (int) packed;
+  }
+
+  /**
+   * Returns the year-month of the given packed value.
+   *
+   * @param packed the packed value
+   * @return the year-month
+   */
+  public static YearMonth unpack(int packed) {
+    int index = packed - TABLE_OFFSET;
+    if (index >= 0 && index < YEAR_MONTHS.length) {
+      return YEAR_MONTHS[index];
+    }
+    return YearMonth.of(getYear(packed), getMonth(packed));
+  }
+
+  /**
+   * Returns the year-month of the given packed value, see {@link #packExtended(YearMonth)}.
+   *
+   * @param packed the packed value
+   * @return the year-month
+   * @throws java.time.DateTimeException if the year is not supported by {@link YearMonth}
+   */
+  static YearMonth unpackExtended(long packed) {
+    if (packed == (int) packed) {
+      return unpack((int) packed);
+    }
+    return YearMonth.of(Math.toIntExact(Math.floorDiv(packed, 12)),
+        (int) Math.floorMod(packed, 12) + 1);
+  }
+
+  /**
+   * Returns the year of the given packed value.
+   *
+   * @param packed the packed value
+   * @return the year
+   */
+  public static int getYear(int packed) {
+    return Math.floorDiv(packed, 12);
+  }
+
+  /**
+   * Returns the month of the given packed value.
+   *
+   * @param packed the packed value
+   * @return the month, from 1 (January) to 12 (December)
+   */
+  public static int getMonth(int packed) {
+    return Math.floorMod(packed, 12) + 1;
+  }
+
+  /**
+   * Parses the ISO {@code yyyy-MM} representation of a year-month. Four digit years are decoded
+   * directly, other values (e.g. signed or extended years) are delegated to
+   * {@link YearMonth#parse(CharSequence)}. Values within the preallocated year window return a
+   * shared instance.
+   *
+   * @param value the value to parse
+   * @return the year-month, or {@code null} for a {@code null} or empty value
+   * @throws java.time.format.DateTimeParseException if the value cannot be parsed
+   */
+  static YearMonth parse(String value) {
+    if (value == null || value.isEmpty()) {
+      return null;
+    }
+    int packed = parsePacked(value);
+    return packed == Integer.MIN_VALUE ? YearMonth.parse(value) : unpack(packed);
+  }
+
+  /**
+   * Returns the ISO {@code yyyy-MM} representation of the given year-month.
+   *
+   * @param yearMonth the year-month
+   * @return the ISO representation, or an empty string for {@code null}
+   */
+  static String format(YearMonth yearMonth) {
+    if (yearMonth == null) {
+      return "";
+    }
+    int year = yearMonth.getYear();
+    if (year >= TABLE_MIN_YEAR && year <= TABLE_MAX_YEAR) {
+      return ISO_STRINGS[pack(year, yearMonth.getMonthValue()) - TABLE_OFFSET];
+    }
+    return yearMonth.toString();
+  }
+
+  /**
+   * Decodes a value of the exact form {@code yyyy-MM} to its packed representation.
+   *
+   * @param value the value to decode
+   * @return the packed value, or {@link Integer#MIN_VALUE} if the value is not of that form
+   */
+  private static int parsePacked(String value) {
+    if (value.length() != 7 || value.charAt(4) != '-') {
+      return Integer.MIN_VALUE;
+    }
+    int year = 0;
+    for (int i = 0; i < 4; i++) {
+      int digit = value.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return Integer.MIN_VALUE;
+      }
+      year = year * 10 + digit;
+    }
+    int tens = value.charAt(5) - '0';
+    int ones = value.charAt(6) - '0';
+    if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+      return Integer.MIN_VALUE;
+    }
+    int month = tens * 10 + ones;
+    if (month < 1 || month > 12) {
+      return Integer.MIN_VALUE;
+    }
+    return pack(year, month);
+  }
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.time.YearMonth;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Immutable, sorted set of {@link YearMonth} values, stored as a bitset over the years between the
+ * first and the last contained month.
+ * <p>
+ * Modifications return new instances, see {@link #with(YearMonth)}, {@link #without(YearMonth)}
+ * and {@link #toggle(YearMonth)}. The set can be converted to and from a compact bitmask string
+ * with {@link #toBitmask()} and {@link #fromBitmask(String)}.
+ * <p>
+ * The months of a set span at most {@link #MAX_YEARS} years, which bounds the size of the bitset
+ * and of the bitmask representation.
+ */
+public final class YearMonthSet extends AbstractSet<YearMonth> implements Serializable {
+
+  /**
+   * Maximum number of years from the year of the first to the year of the last month of a set.
+   */
+  public static final int MAX_YEARS = 1000;
+
+  private static final YearMonthSet EMPTY = new YearMonthSet(0, new BitSet(0));
+
+  /**
+   * The packed value of the month represented by bit 0, always a January.
+   */
+  private final int base;
+
+  private final BitSet bits;
+
+  private YearMonthSet(int base, BitSet bits) {
+    this.base = base;
+    this.bits = bits;
+  }
+
+  /**
+   * Returns the empty set.
+   *
+   * @return the empty set
+   */
+  public static YearMonthSet empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Returns a set with the given months.
+   *
+   * @param months the months (must not be {@code null} or contain {@code null})
+   * @return the set
+   * @throws IllegalArgumentException if the months span more than {@link #MAX_YEARS} years
+   */
+  public static YearMonthSet of(YearMonth... months) {
+    return copyOf(Arrays.asList(months));
+  }
+
+  /**
+   * Returns a set with the months of the given collection.
+   *
+   * @param months the months (must not be {@code null} or contain {@code null})
+   * @return the set, or the given collection itself if it already is a {@link YearMonthSet}
+   * @throws IllegalArgumentException if the months span more than {@link #MAX_YEARS} years
+   */
+  public static YearMonthSet copyOf(Collection<YearMonth> months) {
+    Objects.requireNonNull(months, "The months should not be null");
+    if (months instanceof YearMonthSet set) {
+      return set;
+    }
+    if (months.isEmpty()) {
+      return EMPTY;
+    }
+    int min = Integer.MAX_VALUE;
+    int max = Integer.MIN_VALUE;
+    for (YearMonth month : months) {
+      int packed = YearMonthCodec.pack(Objects.requireNonNull(month));
+      min = Math.min(min, packed);
+      max = Math.max(max, packed);
+    }
+    checkSpan(YearMonthCodec.getYear(min), YearMonthCodec.getYear(max));
+    int base = yearStart(min);
+    BitSet bits = new BitSet();
+    for (YearMonth month : months) {
+      bits.set(YearMonthCodec.pack(month) - base);
+    }
+    return new YearMonthSet(base, bits);
+  }
+
+  /**
+   * Returns a set that additionally contains the given month.
+   *
+   * @param month the month to add (must not be {@code null})
+   * @return the new set, or this set if it already contains the month
+   * @throws IllegalArgumentException if the new set would span more than {@link #MAX_YEARS} years
+   */
+  public YearMonthSet with(YearMonth month) {
+    if (!isWithinSpan(month)) {
+      throw new IllegalArgumentException(
+          "A set of months cannot span more than " + MAX_YEARS + " years: " + month);
+    }
+    int packed = YearMonthCodec.pack(month);
+    if (containsPacked(packed)) {
+      return this;
+    }
+    int newBase = isEmpty() ? yearStart(packed) : Math.min(base, yearStart(packed));
+    BitSet newBits = isEmpty() ? new BitSet() : rebase(newBase);
+    newBits.set(packed - newBase);
+    return new YearMonthSet(newBase, newBits);
+  }
+
+  /**
+   * Returns a set that does not contain the given month.
+   *
+   * @param month the month to remove (must not be {@code null})
+   * @return the new set, or this set if it does not contain the month
+   */
+  public YearMonthSet without(YearMonth month) {
+    int packed = YearMonthCodec.pack(month);
+    if (!containsPacked(packed)) {
+      return this;
+    }
+    BitSet newBits = (BitSet) bits.clone();
+    newBits.clear(packed - base);
+    return create(base, newBits);
+  }
+
+  /**
+   * Returns a set in which the given month is added if this set does not contain it, and removed
+   * otherwise.
+   *
+   * @param month the month to toggle (must not be {@code null})
+   * @return the new set
+   * @throws IllegalArgumentException if the month is added and the new set would span more than
+   *         {@link #MAX_YEARS} years
+   */
+  public YearMonthSet toggle(YearMonth month) {
+    return contains(month) ? without(month) : with(month);
+  }
+
+  /**
+   * Returns whether the given month can be added to this set without exceeding the span of
+   * {@link #MAX_YEARS} years.
+   *
+   * @param month the month (must not be {@code null})
+   * @return {@code true} if the month can be added, {@code false} otherwise
+   */
+  boolean isWithinSpan(YearMonth month) {
+    if (!YearMonthCodec.isPackable(month)) {
+      return false;
+    }
+    if (isEmpty()) {
+      return true;
+    }
+    int year = month.getYear();
+    return spans(Math.min(year, YearMonthCodec.getYear(base)),
+        Math.max(year, YearMonthCodec.getYear(base + bits.length() - 1)));
+  }
+
+  /**
+   * Returns the first (earliest) month of this set.
+   *
+   * @return the first month, or {@code null} if this set is empty
+   */
+  public YearMonth first() {
+    return isEmpty() ? null : YearMonthCodec.unpack(base + bits.nextSetBit(0));
+  }
+
+  /**
+   * Returns the last (latest) month of this set.
+   *
+   * @return the last month, or {@code null} if this set is empty
+   */
+  public YearMonth last() {
+    return isEmpty() ? null : YearMonthCodec.unpack(base + bits.length() - 1);
+  }
+
+  /**
+   * Returns the compact bitmask representation of this set. The representation is the first year
+   * followed by a colon and three hexadecimal digits per year up to the last year, where the lowest
+   * bit of each group represents January. For example, {@code "2024:800801"} contains December
+   * 2024, January 2025 and December 2025. The empty set is represented by an empty string.
+   *
+   * @return the bitmask representation
+   * @see #fromBitmask(String)
+   */
+  public String toBitmask() {
+    if (isEmpty()) {
+      return "";
+    }
+    int years = (bits.length() + 11) / 12;
+    StringBuilder builder = new StringBuilder(12 + years * 3);
+    builder.append(YearMonthCodec.getYear(base)).append(':');
+    for (int year = 0; year < years; year++) {
+      int mask = 0;
+      for (int month = 0; month < 12; month++) {
+        if (bits.get(year * 12 + month)) {
+          mask |= 1 << month;
+        }
+      }
+      builder.append(Character.forDigit(mask >> 8, 16))
+          .append(Character.forDigit((mask >> 4) & 0xF, 16))
+          .append(Character.forDigit(mask & 0xF, 16));
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Returns the set represented by the given bitmask.
+   *
+   * @param bitmask the bitmask, as returned by {@link #toBitmask()}
+   * @return the set
+   * @throws IllegalArgumentException if the bitmask is malformed or spans more than
+   *         {@link #MAX_YEARS} years
+   * @see #toBitmask()
+   */
+  public static YearMonthSet fromBitmask(String bitmask) {
+    if (bitmask == null || bitmask.isEmpty()) {
+      return EMPTY;
+    }
+    int separator = bitmask.indexOf(':');
+    if (separator < 0 || (bitmask.length() - separator - 1) % 3 != 0) {
+      throw new IllegalArgumentException("Malformed month bitmask: " + bitmask);
+    }
+    if ((bitmask.length() - separator - 1) / 3 > MAX_YEARS) {
+      throw new IllegalArgumentException(
+          "A set of months cannot span more than " + MAX_YEARS + " years");
+    }
+    try {
+      int firstYear = Integer.parseInt(bitmask.substring(0, separator));
+      BitSet bits = new BitSet();
+      for (int i = separator + 1, year = 0; i < bitmask.length(); i += 3, year++) {
+        int mask = Integer.parseInt(bitmask.substring(i, i + 3), 16);
+        if (mask < 0) {
+          throw new NumberFormatException();
+        }
+        for (int month = 0; month < 12; month++) {
+          if ((mask & (1 << month)) != 0) {
+            bits.set(year * 12 + month);
+          }
+        }
+      }
+      return create(YearMonthCodec.pack(firstYear, 1), bits);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Malformed month bitmask: " + bitmask, e);
+    }
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return o instanceof YearMonth month && YearMonthCodec.isPackable(month)
+        && containsPacked(YearMonthCodec.pack(month));
+  }
+
+  @Override
+  public int size() {
+    return bits.cardinality();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return bits.isEmpty();
+  }
+
+  /**
+   * Returns an iterator over the months of this set in ascending order.
+   */
+  @Override
+  public Iterator<YearMonth> iterator() {
+    return new Iterator<>() {
+      private int next = bits.nextSetBit(0);
+
+      @Override
+      public boolean hasNext() {
+        return next >= 0;
+      }
+
+      @Override
+      public YearMonth next() {
+        if (next < 0) {
+          throw new NoSuchElementException();
+        }
+        YearMonth month = YearMonthCodec.unpack(base + next);
+        next = bits.nextSetBit(next + 1);
+        return month;
+      }
+    };
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o instanceof YearMonthSet other) {
+      return (isEmpty() && other.isEmpty()) || (base == other.base && bits.equals(other.bits));
+    }
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+
+  private Object writeReplace() {
+    return new SerializedForm(toBitmask());
+  }
+
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("YearMonthSet is serialized through its serialized form");
+  }
+
+  private boolean containsPacked(int packed) {
+    int index = packed - base;
+    return index >= 0 && bits.get(index);
+  }
+
+  /**
+   * Returns a copy of the bits of this set, shifted to the given base, which must not be after the
+   * current base.
+   */
+  private BitSet rebase(int newBase) {
+    if (newBase == base) {
+      return (BitSet) bits.clone();
+    }
+    BitSet newBits = new BitSet(bits.length() + base - newBase);
+    for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+      newBits.set(i + base - newBase);
+    }
+    return newBits;
+  }
+
+  /**
+   * Creates a set from the given bits, dropping leading years without any month, so that the base
+   * is always the January of the first contained month.
+   */
+  private static YearMonthSet create(int base, BitSet bits) {
+    if (bits.isEmpty()) {
+      return EMPTY;
+    }
+    int skip = bits.nextSetBit(0) / 12 * 12;
+    return skip == 0 ? new YearMonthSet(base, bits)
+        : new YearMonthSet(base + skip, bits.get(skip, bits.length()));
+  }
+
+  private static void checkSpan(int firstYear, int lastYear) {
+    if (!spans(firstYear, lastYear)) {
+      throw new IllegalArgumentException("A set of months cannot span more than " + MAX_YEARS
+          + " years: " + firstYear + " to " + lastYear);
+    }
+  }
+
+  private static boolean spans(int firstYear, int lastYear) {
+    return (long) lastYear - firstYear < MAX_YEARS;
+  }
+
+  private static int yearStart(int packed) {
+    return YearMonthCodec.pack(YearMonthCodec.getYear(packed), 1);
+  }
+
+  /**
+   * Serialized form of a set, storing its {@link #toBitmask() bitmask representation}.
+   */
+  private static final class SerializedForm implements Serializable {
+
+    private final String bitmask;
+
+    private SerializedForm(String bitmask) {
+      this.bitmask = bitmask;
+    }
+
+    private Object readResolve() {
+      return fromBitmask(bitmask);
+    }
+  }
+}
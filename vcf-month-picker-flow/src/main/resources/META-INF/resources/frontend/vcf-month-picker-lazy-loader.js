@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+import './vcf-month-picker-timings.js';
+
+/*
+ * Lazy replacement of vcf-month-picker-loader.js, see MonthPicker.enableLazyLoading. The web
+ * component is imported dynamically, so that it is bundled in a chunk of its own. If lazy loading
+ * is enabled on the page, the chunk is only loaded when the server requests it as the first picker
+ * or month picker grid column is attached, and undefined pickers are shown as placeholders of the
+ * size of a field until then. Otherwise, it is loaded right away.
+ */
+let loading;
+
+window.Vaadin.vcfMonthPicker.load = () => {
+  if (!loading) {
+    loading = import('@vaadin-component-factory/vcf-month-picker/dist/src/vcf-month-picker.js');
+  }
+  return loading;
+};
+
+if (window.vcfMonthPickerLazyLoading) {
+  const placeholder = document.createElement('style');
+  placeholder.textContent = `
+    vcf-month-picker:not(:defined) {
+      display: inline-block;
+      box-sizing: border-box;
+      width: var(--vaadin-field-default-width, 12em);
+      min-height: var(--lumo-size-m, 2.25rem);
+    }`;
+  document.head.append(placeholder);
+} else {
+  window.Vaadin.vcfMonthPicker.load();
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+import '@vaadin-component-factory/vcf-month-picker/dist/src/vcf-month-picker.js';
+import './vcf-month-picker-timings.js';
+
+/*
+ * Loads the vcf-month-picker web component with the application bundle. Applications can replace
+ * this module with vcf-month-picker-lazy-loader.js to load the component on first use instead,
+ * see MonthPicker.enableLazyLoading.
+ */
+window.Vaadin.vcfMonthPicker.load = () => Promise.resolve();
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+/*
+ * Measures timings of month pickers and sends them to the server in batches with the
+ * vcf-month-picker-timings event (see MonthPicker.addClientTimingsListener). The measuring is
+ * started by the server for each element that has listeners.
+ */
+window.Vaadin = window.Vaadin || {};
+const api = (window.Vaadin.vcfMonthPicker = window.Vaadin.vcfMonthPicker || {});
+
+/*
+ * Instruments the element to measure timings, sent at most once per interval. The instrumentation
+ * is installed only once per element; starting it again only updates the interval.
+ */
+api.startTimings = (el, interval) => {
+  if (el.__vcfTimings) {
+    el.__vcfTimings.interval = interval;
+    return;
+  }
+  const t = { interval, samples: [], timer: 0, listeners: [] };
+  el.__vcfTimings = t;
+  const record = (type, start) => {
+    t.samples.push({ type, millis: performance.now() - start });
+    if (!t.timer) {
+      t.timer = setTimeout(() => {
+        t.timer = 0;
+        const timings = t.samples;
+        t.samples = [];
+        el.dispatchEvent(new CustomEvent('vcf-month-picker-timings', { detail: { timings } }));
+      }, t.interval);
+    }
+  };
+  const listen = (type, listener) => {
+    el.addEventListener(type, listener, true);
+    t.listeners.push([type, listener]);
+  };
+
+  // the instrumentation runs with the response that attaches the element, so the first rendering
+  // is only measured if it has not happened yet
+  if (!el.hasUpdated) {
+    const renderStart = performance.now();
+    customElements.whenDefined(el.localName).then(() => el.updateComplete).then(() => {
+      if (el.__vcfTimings === t) {
+        record('first-render', renderStart);
+      }
+    });
+  }
+  listen('vcf-month-picker-opened-changed', () => {
+    if (el.opened) {
+      const start = performance.now();
+      requestAnimationFrame(() => requestAnimationFrame(() => record('overlay-open', start)));
+    }
+  });
+  let commitStart = 0;
+  const commit = (e) => {
+    if (e.type === 'focusout' || e.key === 'Enter') {
+      commitStart = performance.now();
+      setTimeout(() => (commitStart = 0));
+    }
+  };
+  listen('keydown', commit);
+  listen('focusout', commit);
+  listen('value-changed', () => {
+    if (commitStart) {
+      record('input-commit', commitStart);
+      commitStart = 0;
+    }
+  });
+  t.stop = () => {
+    t.listeners.forEach(([type, listener]) => el.removeEventListener(type, listener, true));
+    clearTimeout(t.timer);
+    delete el.__vcfTimings;
+  };
+};
+
+/*
+ * Removes the instrumentation of the element. Timings that have not been sent yet are discarded.
+ */
+api.stopTimings = (el) => {
+  if (el.__vcfTimings) {
+    el.__vcfTimings.stop();
+  }
+};
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.data.renderer.LitRenderer;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Locale;
+import net.jcip.annotations.NotThreadSafe;
+import org.junit.Test;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
+import tools.jackson.databind.node.JsonNodeFactory;
+
+@NotThreadSafe
+public class MonthPickerColumnsTest {
+
+    public static class Invoice {
+        private YearMonth billingMonth;
+
+        public YearMonth getBillingMonth() {
+            return billingMonth;
+        }
+
+        public void setBillingMonth(YearMonth billingMonth) {
+            this.billingMonth = billingMonth;
+        }
+    }
+
+    @Test
+    public void add_rendersValueAndSharesI18n() {
+        Grid<Invoice> grid = new Grid<>();
+        MonthPickerI18n i18n = MonthPickerI18n.forLocale(Locale.ENGLISH).setFormat("MM/YYYY");
+
+        Grid.Column<Invoice> column = MonthPickerColumns.add(grid, Invoice::getBillingMonth,
+                Invoice::setBillingMonth, i18n);
+
+        LitRenderer<Invoice> renderer = (LitRenderer<Invoice>) column.getRenderer();
+        Invoice invoice = new Invoice();
+        invoice.setBillingMonth(YearMonth.of(2020, 6));
+        assertEquals("2020-06", renderer.getValueProviders().get("value").apply(invoice));
+
+        assertSame(MonthPicker.getI18nJsonObject(i18n),
+                grid.getElement().getPropertyRaw("__vcfMonthPickerI18n0"));
+    }
+
+    @Test
+    public void lazyLoading_columnRequestsModuleOncePerUi() {
+        UI ui = new UI();
+        TestSessions.attach(ui);
+        MonthPicker.setLazyLoading(true);
+        try {
+            Grid<Invoice> attached = new Grid<>();
+            ui.add(attached);
+            MonthPickerColumns.add(attached, Invoice::getBillingMonth, Invoice::setBillingMonth,
+                    null);
+            Grid<Invoice> detached = new Grid<>();
+            MonthPickerColumns.add(detached, Invoice::getBillingMonth, Invoice::setBillingMonth,
+                    null);
+            ui.add(detached);
+
+            assertEquals(1, ui.getInternals().dumpPendingJavaScriptInvocations().stream()
+                    .filter(invocation -> invocation.getInvocation().getExpression()
+                            .contains("vcfMonthPicker.load"))
+                    .count());
+
+            ui.add(new MonthPicker());
+            assertFalse(ui.getInternals().containsPendingJavascript("vcfMonthPicker.load"));
+        } finally {
+            MonthPicker.setLazyLoading(false);
+        }
+    }
+
+    @Test
+    public void lazyLoading_detachedColumnRequestsModuleOnAttach() {
+        UI ui = new UI();
+        TestSessions.attach(ui);
+        MonthPicker.setLazyLoading(true);
+        try {
+            Grid<Invoice> grid = new Grid<>();
+            MonthPickerColumns.add(grid, Invoice::getBillingMonth, Invoice::setBillingMonth, null);
+            assertFalse(ui.getInternals().containsPendingJavascript("vcfMonthPicker.load"));
+
+            ui.add(grid);
+            assertTrue(ui.getInternals().containsPendingJavascript("vcfMonthPicker.load"));
+        } finally {
+            MonthPicker.setLazyLoading(false);
+        }
+    }
+
+    @Test
+    public void add_registersAttachListenerOncePerGrid() {
+        Grid<Invoice> grid = new Grid<>();
+        int listeners = ComponentUtil.getListeners(grid, AttachEvent.class).size();
+
+        MonthPickerColumns.add(grid, Invoice::getBillingMonth, Invoice::setBillingMonth, null);
+        MonthPickerColumns.add(grid, Invoice::getBillingMonth, Invoice::setBillingMonth, null);
+
+        assertEquals(listeners + 1, ComponentUtil.getListeners(grid, AttachEvent.class).size());
+    }
+
+    @Test
+    public void add_namesI18nPropertiesPerGrid() {
+        Grid<Invoice> grid = new Grid<>();
+        MonthPickerI18n english = MonthPickerI18n.forLocale(Locale.ENGLISH);
+        MonthPickerI18n german = MonthPickerI18n.forLocale(Locale.GERMAN);
+
+        MonthPickerColumns.add(grid, Invoice::getBillingMonth, Invoice::setBillingMonth, english);
+        MonthPickerColumns.add(grid, Invoice::getBillingMonth, Invoice::setBillingMonth, german);
+        MonthPickerColumns.add(grid, Invoice::getBillingMonth, Invoice::setBillingMonth,
+                MonthPickerI18n.forLocale(Locale.ENGLISH));
+        MonthPickerColumns.add(new Grid<>(), Invoice::getBillingMonth, Invoice::setBillingMonth,
+                english);
+
+        assertEquals(List.of("__vcfMonthPickerI18n0", "__vcfMonthPickerI18n1"),
+                grid.getElement().getPropertyNames()
+                        .filter(name -> name.startsWith("__vcfMonthPickerI18n")).sorted()
+                        .toList());
+    }
+
+    @Test
+    public void createTemplate_bindsI18nOnlyWhenGiven() {
+        assertFalse(MonthPickerColumns.createTemplate(null).contains(".i18n"));
+        assertTrue(MonthPickerColumns.createTemplate("__foo").contains("root.parentElement.__foo"));
+    }
+
+    @Test
+    public void applyClientValue_parsesValue() {
+        Invoice invoice = new Invoice();
+
+        assertTrue(MonthPickerColumns.applyClientValue(invoice,
+                JsonNodeFactory.instance.arrayNode().add("2021-03"), Invoice::setBillingMonth));
+        assertEquals(YearMonth.of(2021, 3), invoice.getBillingMonth());
+
+        assertTrue(MonthPickerColumns.applyClientValue(invoice,
+                JsonNodeFactory.instance.arrayNode().add(""), Invoice::setBillingMonth));
+        assertEquals(null, invoice.getBillingMonth());
+
+        invoice.setBillingMonth(YearMonth.of(2021, 3));
+        assertFalse(MonthPickerColumns.applyClientValue(invoice,
+                JsonNodeFactory.instance.arrayNode().add("foo"), Invoice::setBillingMonth));
+        assertEquals(YearMonth.of(2021, 3), invoice.getBillingMonth());
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import static org.junit.Assert.assertEquals;
+import java.time.YearMonth;
+import java.util.Locale;
+import org.junit.Test;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
+
+public class MonthPickerDisplayTest {
+
+    @Test
+    public void rendersValueWithPrimaryFormat() {
+        MonthPickerDisplay display = new MonthPickerDisplay(YearMonth.of(2019, 6),
+                MonthPickerI18n.forLocale(Locale.ENGLISH).setFormats("MMMM YYYY", "MM/YYYY"));
+
+        assertEquals("span", display.getElement().getTag());
+        assertEquals("June 2019", display.getElement().getText());
+
+        display.setValue(YearMonth.of(2020, 1));
+        assertEquals("January 2020", display.getElement().getText());
+
+        display.clear();
+        assertEquals("", display.getElement().getText());
+    }
+
+    @Test
+    public void seti18n_rendersValueAgain() {
+        MonthPickerDisplay display = new MonthPickerDisplay(YearMonth.of(2019, 6));
+        assertEquals("06/2019", display.getElement().getText());
+
+        display.seti18n(new MonthPickerI18n().setFormat("YYYY.MM"));
+        assertEquals("2019.06", display.getElement().getText());
+    }
+}
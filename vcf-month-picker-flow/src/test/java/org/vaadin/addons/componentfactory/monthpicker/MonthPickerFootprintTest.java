@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import static org.junit.Assert.assertTrue;
+import com.vaadin.flow.component.AbstractSinglePropertyField;
+import com.vaadin.flow.component.Tag;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
+
+/**
+ * Guards the heap footprint of month pickers. The per-picker sizes are measured as the difference
+ * between the retained sizes of two batches of pickers, so that state shared between pickers (e.g.
+ * i18n settings of a template) is not counted. The budgets apply to the overhead over a minimal
+ * single property field measured in the same JVM, so that they do not depend on the size of the
+ * Flow internals. They are calibrated for compressed references; the tests are skipped on JVMs
+ * with other reference sizes.
+ */
+public class MonthPickerFootprintTest {
+
+    private static final int BATCH_SIZE = 100;
+
+    /**
+     * Budget for the fields of a picker itself, over those of the baseline field.
+     */
+    private static final long INSTANCE_OVERHEAD_BUDGET = 24;
+
+    /**
+     * Budget for an empty picker including its element state, over the baseline field.
+     */
+    private static final long EMPTY_PICKER_OVERHEAD_BUDGET = 200;
+
+    /**
+     * Budget for a picker configured by a template, over the baseline field.
+     */
+    private static final long TEMPLATE_PICKER_OVERHEAD_BUDGET = 1000;
+
+    private static final MonthPickerTemplate TEMPLATE = MonthPickerTemplate.builder()
+            .setLabel("Month").setMinYear(2000).setMaxYear(2030).setClearButtonVisible(true)
+            .seti18n(new MonthPickerI18n().setFormat("MM.YYYY")).build();
+
+    @BeforeClass
+    public static void assumeCompressedReferences() {
+        Assume.assumeTrue("The budgets are calibrated for compressed references",
+                VM.current().sizeOfField("java.lang.Object") == 4);
+    }
+
+    @Test
+    public void instanceSize_withinBudget() {
+        long size = ClassLayout.parseClass(MonthPicker.class).instanceSize()
+                - ClassLayout.parseClass(BaselineField.class).instanceSize();
+        assertTrue("MonthPicker instance size exceeds the baseline by " + size + " bytes",
+                size <= INSTANCE_OVERHEAD_BUDGET);
+    }
+
+    @Test
+    public void emptyPicker_withinBudget() {
+        long size = bytesPerPicker(MonthPicker::new) - bytesPerPicker(BaselineField::new);
+        assertTrue("An empty MonthPicker retains " + size + " bytes more than the baseline",
+                size <= EMPTY_PICKER_OVERHEAD_BUDGET);
+    }
+
+    @Test
+    public void templatePicker_withinBudget() {
+        long size = bytesPerPicker(TEMPLATE::create) - bytesPerPicker(BaselineField::new);
+        assertTrue("A MonthPicker configured by a template retains " + size
+                + " bytes more than the baseline", size <= TEMPLATE_PICKER_OVERHEAD_BUDGET);
+    }
+
+    private static long bytesPerPicker(Supplier<?> factory) {
+        long once = GraphLayout.parseInstance(createPickers(factory, BATCH_SIZE)).totalSize();
+        long twice = GraphLayout.parseInstance(createPickers(factory, 2 * BATCH_SIZE))
+                .totalSize();
+        return (twice - once) / BATCH_SIZE;
+    }
+
+    private static List<Object> createPickers(Supplier<?> factory, int count) {
+        List<Object> pickers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            pickers.add(factory.get());
+        }
+        return pickers;
+    }
+
+    /**
+     * Minimal field the budgets are relative to.
+     */
+    @Tag("input")
+    private static class BaselineField extends AbstractSinglePropertyField<BaselineField, String> {
+
+        BaselineField() {
+            super("value", "", false);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.junit.Test;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
+
+public class MonthPickerFormatTest {
+
+    @Test
+    public void defaultFormat() {
+        MonthPickerFormat format = MonthPickerFormat.of(new MonthPickerI18n());
+
+        assertEquals(MonthPickerFormat.DEFAULT_FORMAT, format.getPattern());
+        assertEquals("06/2020", format.format(YearMonth.of(2020, 6)));
+        assertEquals(YearMonth.of(2020, 6), format.parse("06/2020"));
+        assertEquals("", format.format(null));
+    }
+
+    @Test
+    public void numericFormats() {
+        MonthPickerFormat format = MonthPickerFormat.of(new MonthPickerI18n()
+                .setFormats("MM.YYYY", "MM/YYYY", "MMYYYY", "YYYY.MM", "M-YYYY"));
+
+        assertEquals("06.2020", format.format(YearMonth.of(2020, 6)));
+        assertEquals(YearMonth.of(2020, 6), format.parse("06.2020"));
+        assertEquals(YearMonth.of(2020, 6), format.parse(" 06/2020 "));
+        assertEquals(YearMonth.of(2020, 6), format.parse("062020"));
+        assertEquals(YearMonth.of(2020, 6), format.parse("2020.06"));
+        assertEquals(YearMonth.of(2020, 6), format.parse("6-2020"));
+        assertEquals(YearMonth.of(2020, 11), format.parse("11-2020"));
+        assertNull(format.parse("13.2020"));
+        assertNull(format.parse("06-20"));
+        assertNull(format.parse(""));
+        assertNull(format.parse(null));
+    }
+
+    @Test
+    public void singleDigitMonth_backtracksWithoutSeparator() {
+        MonthPickerFormat format = MonthPickerFormat.of(new MonthPickerI18n().setFormat("MYYYY"));
+
+        assertEquals("62020", format.format(YearMonth.of(2020, 6)));
+        assertEquals(YearMonth.of(2020, 6), format.parse("62020"));
+        assertEquals(YearMonth.of(2020, 12), format.parse("122020"));
+    }
+
+    @Test
+    public void twoDigitYear_resolvedCloseToCurrentYear() {
+        MonthPickerFormat format = MonthPickerFormat.of(new MonthPickerI18n().setFormat("MM/YY"));
+        int currentYear = Year.now().getValue();
+        int twoDigits = currentYear % 100;
+
+        assertEquals(String.format("03/%02d", twoDigits), format.format(YearMonth.of(currentYear, 3)));
+        assertEquals(YearMonth.of(currentYear, 3),
+                format.parse(String.format("03/%02d", twoDigits)));
+        assertEquals(YearMonth.of(currentYear + 10, 3),
+                format.parse(String.format("03/%02d", (twoDigits + 10) % 100)));
+        assertEquals(YearMonth.of(currentYear - 40, 3),
+                format.parse(String.format("03/%02d", (twoDigits + 60) % 100)));
+    }
+
+    @Test
+    public void twoDigitYear_resolvedRelativeToGivenYear() {
+        MonthPickerFormat format = MonthPickerFormat.of(new MonthPickerI18n().setFormat("MM/YY"));
+
+        assertEquals(YearMonthCodec.pack(1949, 3), format.parsePacked("03/49", 1999));
+        assertEquals(YearMonthCodec.pack(2048, 3), format.parsePacked("03/48", 1999));
+        assertEquals(YearMonthCodec.pack(1950, 3), format.parsePacked("03/50", 2000));
+        assertEquals(YearMonthCodec.pack(2050, 3), format.parsePacked("03/50", 2001));
+    }
+
+    @Test
+    public void monthNames() {
+        MonthPickerI18n i18n = MonthPickerI18n.forLocale(Locale.ENGLISH)
+                .setFormats("MMMM YYYY", "MMM YYYY", "MM/YYYY");
+        MonthPickerFormat format = MonthPickerFormat.of(i18n);
+
+        assertEquals("June 2020", format.format(YearMonth.of(2020, 6)));
+        assertEquals(YearMonth.of(2020, 6), format.parse("June 2020"));
+        assertEquals(YearMonth.of(2020, 6), format.parse("june 2020"));
+        assertEquals(YearMonth.of(2020, 6), format.parse("Jun 2020"));
+        assertEquals(YearMonth.of(2020, 7), format.parse("JUL 2020"));
+        assertEquals(YearMonth.of(2020, 6), format.parse("06/2020"));
+        assertNull(format.parse("Juno 2020"));
+    }
+
+    @Test
+    public void customMonthNames() {
+        MonthPickerFormat format = MonthPickerFormat.of(new MonthPickerI18n()
+                .setMonthNames(List.of("Enero", "Febrero", "Marzo", "Abril", "Mayo", "Junio",
+                        "Julio", "Agosto", "Septiembre", "Octubre", "Noviembre", "Diciembre"))
+                .setFormat("MMMM YYYY"));
+
+        assertEquals("Septiembre 2021", format.format(YearMonth.of(2021, 9)));
+        assertEquals(YearMonth.of(2021, 9), format.parse("septiembre 2021"));
+    }
+
+    @Test
+    public void equalConfigurations_shareCompiledFormat() {
+        assertSame(MonthPickerFormat.of(new MonthPickerI18n().setFormat("MM-YYYY")),
+                MonthPickerFormat.of(new MonthPickerI18n().setFormat("MM-YYYY")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unsupportedSymbol_throws() {
+        MonthPickerFormat.of(new MonthPickerI18n().setFormat("MM/YYY"));
+    }
+
+    @Test
+    public void parseAll_reportsFailedRows() {
+        MonthPickerFormat format = MonthPickerFormat.of(new MonthPickerI18n().setFormat("MM/YYYY"));
+
+        MonthPickerFormat.ParseResult result = format.parseAll(
+                Arrays.asList("06/2020", "", "13/2020", null, "12/2021", "foo"));
+
+        assertEquals(6, result.size());
+        assertEquals(YearMonth.of(2020, 6), result.get(0));
+        assertNull(result.get(1));
+        assertFalse(result.isFailed(1));
+        assertTrue(result.isFailed(2));
+        assertNull(result.get(3));
+        assertEquals(YearMonth.of(2021, 12), result.get(4));
+        assertEquals(2, result.getFailureCount());
+        assertArrayEquals(new int[] { 2, 5 }, result.getFailedRows());
+    }
+
+    @Test
+    public void parseAll_inForkJoinPool_matchesSequentialResult() {
+        MonthPickerFormat format = MonthPickerFormat.of(new MonthPickerI18n().setFormat("MM/YYYY"));
+        List<String> texts = IntStream.range(0, 10_000)
+                .mapToObj(i -> i % 100 == 0 ? "invalid"
+                        : format.format(YearMonthCodec.unpack(YearMonthCodec.pack(2000, 1) + i)))
+                .toList();
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MonthPickerFormat.ParseResult parallel = format.parseAll(texts, pool);
+            MonthPickerFormat.ParseResult sequential = format.parseAll(texts);
+
+            assertEquals(100, parallel.getFailureCount());
+            for (int row = 0; row < texts.size(); row++) {
+                assertEquals(sequential.get(row), parallel.get(row));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void parseLinesAndFormatLines_roundTrip() throws IOException {
+        MonthPickerFormat format = MonthPickerFormat.of(new MonthPickerI18n().setFormat("MM.YYYY"));
+        StringWriter writer = new StringWriter();
+
+        format.formatLines(Arrays.asList(YearMonth.of(2020, 1), null, YearMonth.of(2021, 10)),
+                writer);
+        assertEquals("01.2020\n\n10.2021\n", writer.toString());
+
+        List<YearMonth> values = new ArrayList<>();
+        List<Long> failures = new ArrayList<>();
+        long failureCount = format.parseLines(new StringReader(writer + "x.2020\n"),
+                new MonthPickerFormat.ParseHandler() {
+                    @Override
+                    public void value(long row, YearMonth value) {
+                        values.add(value);
+                    }
+
+                    @Override
+                    public void failure(long row, String text) {
+                        failures.add(row);
+                    }
+                });
+
+        assertEquals(1, failureCount);
+        assertEquals(Arrays.asList(YearMonth.of(2020, 1), null, YearMonth.of(2021, 10)), values);
+        assertEquals(List.of(3L), failures);
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.formlayout.FormLayout;
+import com.vaadin.flow.dom.DomEvent;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
+import com.vaadin.flow.internal.nodefeature.ElementPropertyMap;
+import com.vaadin.flow.internal.nodefeature.PropertyChangeDeniedException;
+import com.vaadin.flow.server.VaadinServletService;
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.testcategory.SlowTests;
+import java.lang.management.ManagementFactory;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import net.jcip.annotations.NotThreadSafe;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openjdk.jol.info.GraphLayout;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
+
+/**
+ * Headless load test that simulates many sessions, each with one UI holding a form of month
+ * pickers, and drives value changes, i18n updates and opened events through them the way client
+ * requests would. Every simulated request is followed by collecting the changes of the UI, as
+ * when writing a response.
+ * <p>
+ * The test is excluded from the regular build and run with {@code mvn test -Pload-test}. The load
+ * can be tuned with the system properties {@code loadtest.sessions}, {@code loadtest.pickers}
+ * (month pickers per form, in addition to a range picker) and {@code loadtest.rounds}. It reports
+ * the throughput and the allocation rate of each phase and the retained heap per session.
+ */
+@NotThreadSafe
+@Category(SlowTests.class)
+public class MonthPickerLoadTest {
+
+    private static final int SESSIONS = Integer.getInteger("loadtest.sessions", 2000);
+
+    private static final int PICKERS = Integer.getInteger("loadtest.pickers", 4);
+
+    private static final int ROUNDS = Integer.getInteger("loadtest.rounds", 3);
+
+    /**
+     * Number of sessions whose retained heap is measured; walking the object graph of all
+     * sessions would dominate the run time.
+     */
+    private static final int HEAP_SAMPLE = Math.min(SESSIONS, 200);
+
+    private static final Locale[] LOCALES = { Locale.ENGLISH, Locale.GERMAN, Locale.FRENCH };
+
+    private static final MonthPickerTemplate TEMPLATE = MonthPickerTemplate.builder()
+            .setMinYear(2000).setMaxYear(2030).setClearButtonVisible(true)
+            .seti18n(MonthPickerI18n.forLocale(Locale.ENGLISH)).build();
+
+    private final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+            .getThreadMXBean();
+
+    private VaadinServletService service;
+
+    private List<SimulatedSession> sessions;
+
+    @Before
+    public void setUp() {
+        service = TestSessions.createService();
+        sessions = new ArrayList<>(SESSIONS);
+    }
+
+    @After
+    public void tearDown() {
+        UI.setCurrent(null);
+        VaadinSession.setCurrent(null);
+    }
+
+    @Test
+    public void simulateSessions() throws PropertyChangeDeniedException {
+        System.out.printf("%nMonth picker load test: %d sessions, %d pickers and a range picker"
+                + " per form, %d rounds%n", SESSIONS, PICKERS, ROUNDS);
+        System.out.printf("%-10s %10s %10s %12s %12s %12s%n", "phase", "operations", "millis",
+                "ops/s", "alloc MB/s", "alloc B/op");
+
+        Phase phase = start();
+        for (int i = 0; i < SESSIONS; i++) {
+            SimulatedSession session = new SimulatedSession(service);
+            session.respond();
+            sessions.add(session);
+        }
+        phase.report("create", SESSIONS);
+
+        phase = start();
+        for (int round = 0; round < ROUNDS; round++) {
+            // odd months are always available in the billing picker
+            String value = String.format("2024-%02d", 1 + 2 * (round % 6));
+            for (SimulatedSession session : sessions) {
+                for (MonthPicker picker : session.pickers) {
+                    setValueFromClient(picker, value);
+                }
+                MonthRangePickerTest.commitFromClient(session.range.getStartPicker(), value);
+                MonthRangePickerTest.commitFromClient(session.range.getEndPicker(), "2025-12");
+                session.respond();
+            }
+        }
+        phase.report("value", ROUNDS * SESSIONS * (PICKERS + 2));
+
+        phase = start();
+        for (int round = 0; round < ROUNDS; round++) {
+            MonthPickerI18n i18n = MonthPickerI18n.forLocale(LOCALES[round % LOCALES.length]);
+            for (SimulatedSession session : sessions) {
+                for (MonthPicker picker : session.pickers) {
+                    picker.seti18n(i18n);
+                }
+                session.range.seti18n(i18n);
+                session.respond();
+            }
+        }
+        phase.report("i18n", ROUNDS * SESSIONS * (PICKERS + 1));
+
+        phase = start();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (SimulatedSession session : sessions) {
+                for (MonthPicker picker : session.pickers) {
+                    setOpenedFromClient(picker, true);
+                    session.respond();
+                    setOpenedFromClient(picker, false);
+                    session.respond();
+                }
+            }
+        }
+        phase.report("opened", ROUNDS * SESSIONS * PICKERS * 2);
+
+        long retained = retainedBytesPerSession();
+        System.out.printf("Retained heap: %d bytes per session%n%n", retained);
+
+        YearMonth lastValue = YearMonth.of(2024, 1 + 2 * ((ROUNDS - 1) % 6));
+        for (SimulatedSession session : sessions) {
+            session.pickers.forEach(picker -> assertEquals(lastValue, picker.getValue()));
+            assertEquals(MonthRange.of(lastValue, YearMonth.of(2025, 12)),
+                    session.range.getValue());
+            assertEquals(2 * ROUNDS * PICKERS, session.openedEvents);
+        }
+        assertTrue(retained > 0);
+    }
+
+    /**
+     * Returns the heap retained by a session and its UI, not counting the shared service.
+     */
+    private long retainedBytesPerSession() {
+        Object[] sample = sessions.subList(0, HEAP_SAMPLE).toArray();
+        long shared = GraphLayout.parseInstance(service).totalSize();
+        return (GraphLayout.parseInstance(sample).totalSize() - shared) / HEAP_SAMPLE;
+    }
+
+    private Phase start() {
+        System.gc();
+        return new Phase(System.nanoTime(), threads.getCurrentThreadAllocatedBytes());
+    }
+
+    private final class Phase {
+        private final long startNanos;
+        private final long startBytes;
+
+        private Phase(long startNanos, long startBytes) {
+            this.startNanos = startNanos;
+            this.startBytes = startBytes;
+        }
+
+        private void report(String name, long operations) {
+            long nanos = System.nanoTime() - startNanos;
+            long bytes = threads.getCurrentThreadAllocatedBytes() - startBytes;
+            double seconds = nanos / 1e9;
+            System.out.printf("%-10s %10d %10d %12.0f %12.1f %12d%n", name, operations,
+                    nanos / 1_000_000, operations / seconds, bytes / seconds / (1 << 20),
+                    bytes / operations);
+        }
+    }
+
+    /**
+     * A session with one UI showing a form of month pickers, similar to a typical reporting or
+     * contract form.
+     */
+    private static final class SimulatedSession {
+        private final VaadinSession session;
+        private final UI ui = new UI();
+        private final List<MonthPicker> pickers = new ArrayList<>(PICKERS);
+        private final MonthRangePicker range = new MonthRangePicker();
+        private int openedEvents;
+
+        private SimulatedSession(VaadinServletService service) {
+            session = TestSessions.createSession(service);
+            ui.getInternals().setSession(session);
+
+            FormLayout form = new FormLayout();
+            for (int i = 0; i < PICKERS; i++) {
+                MonthPicker picker = TEMPLATE.create();
+                picker.setLabel("Month " + (i + 1));
+                picker.addValueChangeListener(event -> {
+                });
+                picker.addOpenedChangeListener(event -> openedEvents++);
+                form.add(picker);
+            }
+            pickers.addAll(form.getChildren().map(MonthPicker.class::cast).toList());
+            // the first picker only offers odd months in odd years
+            pickers.get(0).setAvailabilityValidator(year -> year % 2 == 0
+                    ? MonthAvailabilityValidator.ALL_MONTHS : 0x555);
+            form.add(range);
+            ui.add(form);
+        }
+
+        /**
+         * Runs what would run before writing a response and collects the changes to send.
+         */
+        private void respond() {
+            ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+            ui.getInternals().getStateTree().collectChanges(change -> {
+            });
+        }
+    }
+
+    private static void setValueFromClient(MonthPicker picker, String value)
+            throws PropertyChangeDeniedException {
+        picker.getElement().getNode().getFeature(ElementPropertyMap.class)
+                .deferredUpdateFromClient("value", value).run();
+    }
+
+    private static void setOpenedFromClient(MonthPicker picker, boolean opened)
+            throws PropertyChangeDeniedException {
+        Element element = picker.getElement();
+        element.getNode().getFeature(ElementPropertyMap.class)
+                .deferredUpdateFromClient("opened", opened).run();
+        element.getNode().getFeature(ElementListenerMap.class).fireEvent(new DomEvent(element,
+                "vcf-month-picker-opened-changed", JacksonUtils.createObjectNode()));
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.dom.DomEvent;
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
+import com.vaadin.flow.internal.nodefeature.ElementPropertyMap;
+import com.vaadin.flow.internal.nodefeature.PropertyChangeDeniedException;
+import com.vaadin.flow.shared.Registration;
+import java.lang.reflect.Field;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
+import net.jcip.annotations.NotThreadSafe;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+@NotThreadSafe
+public class MonthPickerPoolTest {
+
+    private UI ui;
+
+    @Before
+    public void setUp() {
+        ui = new UI();
+        UI.setCurrent(ui);
+    }
+
+    @After
+    public void tearDown() {
+        UI.setCurrent(null);
+    }
+
+    @Test
+    public void release_resetsPickerForReuse() throws PropertyChangeDeniedException {
+        MonthPickerTemplate template = MonthPickerTemplate.builder().setLabel("Month")
+                .setMaxYear(2030).build();
+        MonthPickerPool pool = new MonthPickerPool(template, 4);
+        TestSessions.attach(ui);
+
+        MonthPicker picker = pool.acquire();
+        assertEquals("Month", picker.getLabel());
+        List<YearMonth> values = new ArrayList<>();
+        picker.addValueChangeListener(e -> values.add(e.getValue()));
+        picker.addOpenedChangeListener(e -> {
+        });
+        picker.addClientTimingsListener(e -> {
+        });
+        picker.setAvailabilityValidator(year -> 0x001);
+        picker.setLabel("Changed");
+        picker.seti18n(MonthPickerI18n.forLocale(Locale.GERMAN));
+        ui.add(picker);
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+        setValueFromClient(picker, "2024-01");
+        setValueFromClient(picker, "2024-02");
+        assertTrue(picker.isInvalid());
+        assertEquals(List.of(YearMonth.of(2024, 1)), values);
+
+        ui.remove(picker);
+        assertTrue(pool.release(picker));
+        assertEquals(1, pool.size());
+
+        assertNull(picker.getValue());
+        assertFalse(picker.isInvalid());
+        assertNull(picker.getI18n());
+        assertNull(picker.getElement().getPropertyRaw("i18n"));
+        assertNull(picker.getAvailabilityValidator());
+        assertFalse(picker.isOpenedStateSynchronized());
+        assertEquals("Month", picker.getLabel());
+        ElementListenerMap listeners = picker.getElement().getNode()
+                .getFeature(ElementListenerMap.class);
+        assertTrue(listeners.getExpressions("vcf-month-picker-timings").isEmpty());
+
+        assertSame(picker, pool.acquire());
+        assertEquals(0, pool.size());
+        ui.add(picker);
+        setValueFromClient(picker, "2024-03");
+        assertEquals(List.of(YearMonth.of(2024, 1)), values);
+        assertEquals(YearMonth.of(2024, 3), picker.getValue());
+    }
+
+    @Test
+    public void removedRegistrations_areNotTracked() {
+        MonthPickerPool pool = new MonthPickerPool(1);
+        MonthPicker picker = pool.acquire();
+        List<YearMonth> values = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            Registration registration = picker.addValueChangeListener(e -> {
+            });
+            registration.remove();
+            registration.remove();
+        }
+        picker.addClientTimingsListener(e -> {
+        }).remove();
+        picker.addValueChangeListener(e -> values.add(e.getValue()));
+
+        assertEquals(1, trackedRegistrations(picker).size());
+
+        pool.release(picker);
+        assertTrue(trackedRegistrations(picker).isEmpty());
+        picker.setValue(YearMonth.of(2025, 1));
+        assertTrue(values.isEmpty());
+    }
+
+    @Test
+    public void release_keepsElementListenersAndState() {
+        MonthPickerPool pool = new MonthPickerPool(1);
+        MonthPicker picker = pool.acquire();
+        List<String> events = new ArrayList<>();
+        picker.getElement().addEventListener("custom-event", e -> events.add(e.getType()));
+        picker.getElement().setProperty("customProperty", "previous user");
+        picker.addClassName("previous");
+
+        pool.release(picker);
+        MonthPicker reused = pool.acquire();
+        assertSame(picker, reused);
+        reused.getElement().getNode().getFeature(ElementListenerMap.class).fireEvent(
+                new DomEvent(reused.getElement(), "custom-event", JacksonUtils.createObjectNode()));
+
+        // only the listeners added through the picker API are removed on release
+        assertEquals(List.of("custom-event"), events);
+        assertEquals("previous user", reused.getElement().getProperty("customProperty"));
+        assertTrue(reused.hasClassName("previous"));
+    }
+
+    @Test
+    public void release_discardsPickersBeyondMaxSize() {
+        MonthPickerPool pool = new MonthPickerPool(1);
+        MonthPicker first = pool.acquire();
+        MonthPicker second = pool.acquire();
+
+        assertTrue(pool.release(first));
+        assertFalse(pool.release(second));
+        assertEquals(1, pool.size());
+
+        pool.setMaxSize(0);
+        assertEquals(0, pool.size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void release_attachedPicker_throws() {
+        MonthPickerPool pool = new MonthPickerPool(1);
+        MonthPicker picker = pool.acquire();
+        ui.add(picker);
+        pool.release(picker);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void release_foreignPicker_throws() {
+        new MonthPickerPool(1).release(new MonthPicker());
+    }
+
+    @Test
+    public void forUI_returnsOnePoolPerUi() {
+        MonthPickerPool pool = MonthPickerPool.forUI(ui);
+        assertSame(pool, MonthPickerPool.forUI(ui));
+        assertEquals(MonthPickerPool.DEFAULT_MAX_SIZE, pool.getMaxSize());
+        assertFalse(pool == MonthPickerPool.forUI(new UI()));
+    }
+
+    private static List<?> trackedRegistrations(MonthPicker picker) {
+        try {
+            Field field = picker.getClass().getDeclaredField("registrations");
+            field.setAccessible(true);
+            return (List<?>) field.get(picker);
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void setValueFromClient(MonthPicker monthPicker, String value)
+            throws PropertyChangeDeniedException {
+        monthPicker.getElement().getNode().getFeature(ElementPropertyMap.class)
+                .deferredUpdateFromClient("value", value).run();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import com.vaadin.flow.component.UI;
+import java.time.YearMonth;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
+import net.jcip.annotations.NotThreadSafe;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+@NotThreadSafe
+public class MonthPickerTemplateTest {
+
+    private UI ui;
+
+    @Before
+    public void setUp() {
+        ui = new UI();
+        UI.setCurrent(ui);
+    }
+
+    @After
+    public void tearDown() {
+        UI.setCurrent(null);
+    }
+
+    @Test
+    public void create_appliesSettingsAndSharesI18n() {
+        MonthPickerI18n i18n = new MonthPickerI18n().setFormat("MM.YYYY");
+        MonthPickerTemplate template = MonthPickerTemplate.builder().setLabel("Month")
+                .setMinYear(2000).setMax(YearMonth.of(2030, 6)).setClearButtonVisible(true)
+                .seti18n(i18n).build();
+        i18n.setFormat("YYYY-MM");
+
+        MonthPicker first = template.create();
+        MonthPicker second = template.create();
+        ui.add(first, second);
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+
+        assertEquals("Month", first.getLabel());
+        assertEquals(YearMonth.of(2000, 1), first.getMin());
+        assertEquals(2000, first.getMinYear());
+        assertEquals(YearMonth.of(2030, 6), first.getMax());
+        assertTrue(first.isClearButtonVisible());
+        assertEquals("MM.YYYY", first.getFormat().getPattern());
+        assertSame(first.getElement().getPropertyRaw("i18n"),
+                second.getElement().getPropertyRaw("i18n"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void sharedI18n_cannotBeModified() {
+        MonthPickerTemplate template = MonthPickerTemplate.builder()
+                .seti18n(new MonthPickerI18n().setFormat("MM.YYYY")).build();
+
+        template.getI18n().setFormat("YYYY-MM");
+    }
+
+    @Test
+    public void pickerI18n_isCopiedOnModification() {
+        MonthPickerTemplate template = MonthPickerTemplate.builder()
+                .seti18n(new MonthPickerI18n().setFormat("MM.YYYY")).build();
+        MonthPicker picker = template.create();
+
+        picker.seti18n(picker.getI18n().setFormat("YYYY-MM"));
+
+        assertEquals("YYYY-MM", picker.getI18n().getFormats().get(0));
+        assertSame(picker.getI18n(), picker.getI18n());
+        assertEquals("MM.YYYY", template.getI18n().getFormats().get(0));
+        assertEquals("MM.YYYY", template.create().getI18n().getFormats().get(0));
+    }
+
+    @Test
+    public void apply_resetsClearButtonAndAutoOpen() {
+        MonthPicker picker = new MonthPicker();
+        picker.setClearButtonVisible(true);
+        picker.setAutoOpen(false);
+
+        MonthPickerTemplate.builder().build().apply(picker);
+
+        assertFalse(picker.isClearButtonVisible());
+        assertTrue(picker.isAutoOpen());
+    }
+}
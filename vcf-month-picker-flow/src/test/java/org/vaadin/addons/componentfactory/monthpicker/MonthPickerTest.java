@@ -16,12 +16,34 @@
 package org.vaadin.addons.componentfactory.monthpicker;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.data.value.ValueChangeMode;
+import com.vaadin.flow.dom.DomEvent;
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.internal.change.MapPutChange;
+import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
+import com.vaadin.flow.internal.nodefeature.ElementPropertyMap;
+import com.vaadin.flow.internal.nodefeature.PropertyChangeDeniedException;
+import com.vaadin.flow.server.AppShellSettings;
+import com.vaadin.flow.shared.Registration;
+import java.time.Year;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.List;
+import java.util.Locale;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
 import net.jcip.annotations.NotThreadSafe;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
 
 @NotThreadSafe
 public class MonthPickerTest {
@@ -50,4 +72,539 @@ public class MonthPickerTest {
         assertEquals(value, monthYear.getValue());
     }
 
+    @Test
+    public void seti18n_equalConfigurations_shareSerializedJson() {
+        MonthPicker first = new MonthPicker();
+        MonthPicker second = new MonthPicker();
+
+        ui.add(first, second);
+        first.seti18n(new MonthPickerI18n().setFormats("MM.YYYY", "MM/YYYY"));
+        second.seti18n(new MonthPickerI18n().setFormats("MM.YYYY", "MM/YYYY"));
+        flush();
+
+        assertSame(first.getElement().getPropertyRaw("i18n"),
+                second.getElement().getPropertyRaw("i18n"));
+    }
+
+    @Test
+    public void seti18n_modifiedConfiguration_isSerializedAgain() {
+        List<String> monthLabels = new ArrayList<>(List.of("Ene", "Feb", "Mar", "Abr", "May",
+                "Jun", "Jul", "Ago", "Sep", "Oct", "Nov", "Dic"));
+        MonthPickerI18n i18n = new MonthPickerI18n().setMonthLabels(monthLabels);
+        MonthPicker monthPicker = new MonthPicker();
+        ui.add(monthPicker);
+
+        monthPicker.seti18n(i18n);
+        flush();
+        Object json = monthPicker.getElement().getPropertyRaw("i18n");
+
+        monthLabels.set(0, "Enero");
+        monthPicker.seti18n(i18n);
+        flush();
+
+        assertNotSame(json, monthPicker.getElement().getPropertyRaw("i18n"));
+        JsonNode updated = (JsonNode) monthPicker.getElement().getPropertyRaw("i18n");
+        assertEquals("Enero", updated.get("monthLabels").get(0).asString());
+    }
+
+    @Test
+    public void seti18n_laterModificationsNotApplied() {
+        MonthPickerI18n i18n = new MonthPickerI18n().setFormat("MM.YYYY");
+        MonthPicker monthPicker = new MonthPicker();
+        ui.add(monthPicker);
+
+        monthPicker.seti18n(i18n);
+        i18n.setFormat("YYYY-MM");
+        flush();
+
+        JsonNode json = (JsonNode) monthPicker.getElement().getPropertyRaw("i18n");
+        assertEquals("MM.YYYY", json.get("formats").get(0).asString());
+        assertEquals("MM.YYYY", monthPicker.getFormat().getPattern());
+    }
+
+    @Test
+    public void seti18n_isWrittenOnceAttached() {
+        MonthPicker monthPicker = new MonthPicker();
+
+        monthPicker.seti18n(new MonthPickerI18n().setFormat("MM.YYYY"));
+        monthPicker.seti18n(new MonthPickerI18n().setFormat("YYYY-MM"));
+        flush();
+        assertFalse(monthPicker.getElement().hasProperty("i18n"));
+
+        ui.add(monthPicker);
+        assertFalse(monthPicker.getElement().hasProperty("i18n"));
+        flush();
+
+        JsonNode json = (JsonNode) monthPicker.getElement().getPropertyRaw("i18n");
+        assertEquals("YYYY-MM", json.get("formats").get(0).asString());
+        assertEquals("YYYY-MM", monthPicker.getI18n().getFormats().get(0));
+    }
+
+    @Test
+    public void forLocale_returnsLocalizedMonthNames() {
+        MonthPickerI18n i18n = MonthPickerI18n.forLocale(Locale.GERMAN);
+
+        assertEquals(12, i18n.getMonthNames().size());
+        assertEquals("Januar", i18n.getMonthNames().get(0));
+        assertEquals("Dezember", i18n.getMonthNames().get(11));
+        assertEquals("Jan.", i18n.getShortMonthNames().get(0));
+        assertEquals(i18n.getShortMonthNames(), i18n.getMonthLabels());
+        assertEquals(null, i18n.getFormats());
+    }
+
+    @Test
+    public void forLocale_sharesMonthNamesButNotInstances() {
+        MonthPickerI18n first = MonthPickerI18n.forLocale(Locale.ENGLISH);
+        MonthPickerI18n second = MonthPickerI18n.forLocale(Locale.ENGLISH);
+
+        assertNotSame(first, second);
+        assertSame(first.getMonthNames(), second.getMonthNames());
+
+        first.setFormat("MM/YYYY");
+        assertEquals(null, second.getFormats());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void forLocale_monthNamesAreImmutable() {
+        MonthPickerI18n.forLocale(Locale.ENGLISH).getMonthNames().set(0, "Foo");
+    }
+
+    @Test
+    public void minMaxYear_typedAccessors() {
+        MonthPicker monthPicker = new MonthPicker();
+        assertEquals(0, monthPicker.getMinYear());
+        assertEquals(0, monthPicker.getMaxYear());
+        assertEquals(null, monthPicker.getMin());
+        assertEquals(null, monthPicker.getMax());
+
+        monthPicker.setMinYear(2020);
+        monthPicker.setMaxYear(2026);
+
+        assertEquals(2020, monthPicker.getMinYear());
+        assertEquals(2026, monthPicker.getMaxYear());
+        assertEquals(YearMonth.of(2020, 1), monthPicker.getMin());
+        assertEquals(YearMonth.of(2026, 12), monthPicker.getMax());
+        assertEquals("2020", monthPicker.getElement().getProperty("minYear"));
+        assertEquals("2026", monthPicker.getElement().getProperty("maxYear"));
+    }
+
+    @Test
+    public void minMax_monthGranularity() {
+        MonthPicker monthPicker = new MonthPicker();
+        monthPicker.setMin(YearMonth.of(2020, 4));
+        monthPicker.setMax(YearMonth.of(2021, 9));
+
+        assertEquals(2020, monthPicker.getMinYear());
+        assertEquals(2021, monthPicker.getMaxYear());
+        assertFalse(monthPicker.isWithinRange(YearMonth.of(2020, 3)));
+        assertTrue(monthPicker.isWithinRange(YearMonth.of(2020, 4)));
+        assertTrue(monthPicker.isWithinRange(YearMonth.of(2021, 9)));
+        assertFalse(monthPicker.isWithinRange(YearMonth.of(2021, 10)));
+        assertTrue(monthPicker.isWithinRange(null));
+
+        monthPicker.setMin(null);
+        assertEquals(null, monthPicker.getMin());
+        assertEquals(0, monthPicker.getMinYear());
+        assertEquals(null, monthPicker.getElement().getProperty("minYear"));
+        assertTrue(monthPicker.isWithinRange(YearMonth.of(1900, 1)));
+    }
+
+    @Test
+    public void clientValueOutOfRange_rejectedBeforeValueChange()
+            throws PropertyChangeDeniedException {
+        MonthPicker monthPicker = new MonthPicker();
+        monthPicker.setMin(YearMonth.of(2020, 4));
+        monthPicker.setMaxYear(2026);
+        AtomicInteger valueChanges = new AtomicInteger();
+        monthPicker.addValueChangeListener(e -> valueChanges.incrementAndGet());
+
+        setValueFromClient(monthPicker, "2020-03");
+
+        assertEquals(0, valueChanges.get());
+        assertEquals(null, monthPicker.getValue());
+        assertEquals("", monthPicker.getElement().getProperty("value"));
+        assertTrue(monthPicker.isInvalid());
+
+        setValueFromClient(monthPicker, "2020-04");
+
+        assertEquals(1, valueChanges.get());
+        assertEquals(YearMonth.of(2020, 4), monthPicker.getValue());
+        assertFalse(monthPicker.isInvalid());
+    }
+
+    @Test
+    public void clientValueWithExtremeYear_rejectedOutOfRange()
+            throws PropertyChangeDeniedException {
+        MonthPicker monthPicker = new MonthPicker(YearMonth.of(2024, 1));
+        monthPicker.setMinYear(2000);
+        monthPicker.setMaxYear(2100);
+
+        setValueFromClient(monthPicker, "+999999999-12");
+        assertTrue(monthPicker.isInvalid());
+        assertEquals(YearMonth.of(2024, 1), monthPicker.getValue());
+
+        setValueFromClient(monthPicker, "-999999999-01");
+        assertTrue(monthPicker.isInvalid());
+        assertEquals(YearMonth.of(2024, 1), monthPicker.getValue());
+
+        monthPicker.setMax(null);
+        setValueFromClient(monthPicker, "+999999999-12");
+        assertFalse(monthPicker.isInvalid());
+        assertEquals(YearMonth.of(Year.MAX_VALUE, 12), monthPicker.getValue());
+    }
+
+    @Test
+    public void setInvalid_afterRejection_isKeptByAcceptedValue()
+            throws PropertyChangeDeniedException {
+        MonthPicker monthPicker = new MonthPicker(YearMonth.of(2024, 1));
+        monthPicker.setMaxYear(2024);
+
+        setValueFromClient(monthPicker, "2025-01");
+        assertTrue(monthPicker.isInvalid());
+        assertEquals("2024-01", monthPicker.getElement().getProperty("value"));
+
+        monthPicker.setInvalid(false);
+        monthPicker.setInvalid(true);
+        setValueFromClient(monthPicker, "2024-02");
+
+        assertEquals(YearMonth.of(2024, 2), monthPicker.getValue());
+        assertTrue(monthPicker.isInvalid());
+    }
+
+    @Test
+    public void programmaticValueOutOfRange_isAccepted() {
+        MonthPicker monthPicker = new MonthPicker();
+        monthPicker.setMinYear(2020);
+
+        monthPicker.setValue(YearMonth.of(2019, 6));
+
+        assertEquals(YearMonth.of(2019, 6), monthPicker.getValue());
+    }
+
+    @Test
+    public void availabilityValidator_queriesLazilyAndCachesPerYear()
+            throws PropertyChangeDeniedException {
+        List<Integer> queriedYears = new ArrayList<>();
+        MonthPicker monthPicker = new MonthPicker(YearMonth.of(2024, 5));
+        monthPicker.setAvailabilityValidator(year -> {
+            queriedYears.add(year);
+            // only odd months are available
+            return 0x555;
+        });
+        assertTrue(queriedYears.isEmpty());
+
+        AtomicInteger valueChanges = new AtomicInteger();
+        monthPicker.addValueChangeListener(e -> valueChanges.incrementAndGet());
+        setValueFromClient(monthPicker, "2025-02");
+        assertEquals(0, valueChanges.get());
+        assertTrue(monthPicker.isInvalid());
+
+        setValueFromClient(monthPicker, "2025-03");
+        assertEquals(1, valueChanges.get());
+        assertFalse(monthPicker.isInvalid());
+        assertEquals(List.of(2025), queriedYears);
+
+        monthPicker.refreshAvailability();
+        assertTrue(monthPicker.isAvailable(YearMonth.of(2025, 1)));
+        assertEquals(List.of(2025, 2025), queriedYears);
+    }
+
+    @Test
+    public void withoutAvailabilityValidator_monthsWithinRangeAreAvailable() {
+        MonthPicker monthPicker = new MonthPicker();
+        monthPicker.setMax(YearMonth.of(2024, 6));
+
+        assertTrue(monthPicker.isAvailable(YearMonth.of(2024, 6)));
+        assertFalse(monthPicker.isAvailable(YearMonth.of(2024, 7)));
+        assertTrue(monthPicker.isAvailable(null));
+    }
+
+    @Test
+    public void valueChangeMode_changesSynchronizedEvent() {
+        MonthPicker monthPicker = new MonthPicker();
+        ElementListenerMap listeners = monthPicker.getElement().getNode()
+                .getFeature(ElementListenerMap.class);
+        assertEquals(ValueChangeMode.EAGER, monthPicker.getValueChangeMode());
+        assertFalse(listeners.getExpressions("value-changed").isEmpty());
+
+        monthPicker.setValueChangeMode(ValueChangeMode.ON_BLUR);
+
+        assertTrue(listeners.getExpressions("value-changed").isEmpty());
+        assertFalse(listeners.getExpressions("blur").isEmpty());
+
+        monthPicker.setValueChangeMode(ValueChangeMode.LAZY);
+        monthPicker.setValueChangeTimeout(1000);
+
+        assertTrue(listeners.getExpressions("blur").isEmpty());
+        assertFalse(listeners.getExpressions("value-changed").isEmpty());
+        assertEquals(1000, monthPicker.getValueChangeTimeout());
+    }
+
+    @Test
+    public void openedState_isOnlySynchronizedWhileRequested() {
+        MonthPicker monthPicker = new MonthPicker();
+        ElementListenerMap listeners = monthPicker.getElement().getNode()
+                .getFeature(ElementListenerMap.class);
+        assertFalse(monthPicker.isOpenedStateSynchronized());
+        assertTrue(listeners.getExpressions("vcf-month-picker-opened-changed").isEmpty());
+
+        Registration first = monthPicker.addOpenedChangeListener(e -> {
+        });
+        Registration second = monthPicker.addOpenedChangeListener(e -> {
+        });
+        assertTrue(monthPicker.isOpenedStateSynchronized());
+        assertFalse(listeners.getExpressions("vcf-month-picker-opened-changed").isEmpty());
+
+        first.remove();
+        first.remove();
+        assertTrue(monthPicker.isOpenedStateSynchronized());
+
+        second.remove();
+        assertFalse(monthPicker.isOpenedStateSynchronized());
+        assertTrue(listeners.getExpressions("vcf-month-picker-opened-changed").isEmpty());
+
+        monthPicker.setOpenedStateSynchronized(true);
+        assertTrue(monthPicker.isOpenedStateSynchronized());
+        monthPicker.setOpenedStateSynchronized(false);
+        assertFalse(monthPicker.isOpenedStateSynchronized());
+    }
+
+    @Test
+    public void consolidatedSync_appliesStateInSingleEvent() {
+        MonthPicker monthPicker = new MonthPicker();
+        monthPicker.setMaxYear(2024);
+        monthPicker.setConsolidatedSync(true);
+        ElementListenerMap listeners = monthPicker.getElement().getNode()
+                .getFeature(ElementListenerMap.class);
+        assertTrue(listeners.getExpressions("value-changed")
+                .containsAll(List.of("element.value", "element.opened")));
+        assertFalse(listeners.getExpressions("value-changed").contains("element.invalid"));
+        assertEquals(null, listeners.getPropertySynchronizationMode("value"));
+
+        List<Boolean> fromClient = new ArrayList<>();
+        monthPicker.addValueChangeListener(e -> fromClient.add(e.isFromClient()));
+
+        fireClientState(monthPicker, "2024-05", true);
+
+        assertEquals(List.of(true), fromClient);
+        assertEquals(YearMonth.of(2024, 5), monthPicker.getValue());
+        assertEquals("2024-05", monthPicker.getElement().getProperty("value"));
+        assertTrue(monthPicker.isOpened());
+
+        fireClientState(monthPicker, "2025-01", false);
+
+        assertEquals(List.of(true), fromClient);
+        assertEquals(YearMonth.of(2024, 5), monthPicker.getValue());
+        assertTrue(monthPicker.isInvalid());
+        assertFalse(monthPicker.isOpened());
+
+        monthPicker.setConsolidatedSync(false);
+        assertFalse(listeners.getExpressions("value-changed").contains("element.opened"));
+        assertTrue(listeners.getPropertySynchronizationMode("value") != null);
+    }
+
+    @Test
+    public void consolidatedSync_unparseableValue_marksInvalidAndAppliesState() {
+        MonthPicker monthPicker = new MonthPicker(YearMonth.of(2024, 5));
+        monthPicker.setConsolidatedSync(true);
+        List<YearMonth> values = new ArrayList<>();
+        monthPicker.addValueChangeListener(e -> values.add(e.getValue()));
+
+        fireClientState(monthPicker, "not a month", true);
+
+        assertTrue(values.isEmpty());
+        assertEquals(YearMonth.of(2024, 5), monthPicker.getValue());
+        assertEquals("2024-05", monthPicker.getElement().getProperty("value"));
+        assertTrue(monthPicker.isInvalid());
+        assertTrue(monthPicker.isOpened());
+
+        fireClientState(monthPicker, "2024-06", false);
+
+        assertEquals(List.of(YearMonth.of(2024, 6)), values);
+        assertFalse(monthPicker.isInvalid());
+        assertFalse(monthPicker.isOpened());
+    }
+
+    @Test
+    public void consolidatedSync_firesOpenedChangeAndKeepsServerValidity() {
+        MonthPicker monthPicker = new MonthPicker();
+        ui.add(monthPicker);
+        monthPicker.setConsolidatedSync(true);
+        List<Boolean> opened = new ArrayList<>();
+        monthPicker.addOpenedChangeListener(e -> {
+            assertTrue(e.isFromClient());
+            opened.add(e.isOpened());
+        });
+        monthPicker.getElement().setProperty("invalid", true);
+
+        fireClientState(monthPicker, "2024-05", true);
+
+        assertEquals(List.of(true), opened);
+        assertEquals(YearMonth.of(2024, 5), monthPicker.getValue());
+        // the validity is decided on the server only
+        assertTrue(monthPicker.isInvalid());
+    }
+
+    @Test
+    public void consolidatedSync_sendsNoStateBack() {
+        MonthPicker monthPicker = new MonthPicker();
+        ui.add(monthPicker);
+        monthPicker.setConsolidatedSync(true);
+        collectPropertyChanges(monthPicker);
+
+        fireClientState(monthPicker, "2024-05", true);
+
+        assertEquals(YearMonth.of(2024, 5), monthPicker.getValue());
+        assertTrue(monthPicker.isOpened());
+        assertEquals("2024-05", monthPicker.getElement().getProperty("value"));
+        assertEquals(List.of(), collectPropertyChanges(monthPicker));
+
+        fireClientState(monthPicker, "", false);
+
+        assertEquals(null, monthPicker.getValue());
+        assertFalse(monthPicker.isOpened());
+        assertEquals(List.of(), collectPropertyChanges(monthPicker));
+    }
+
+    @Test
+    public void consolidatedSync_rejectedValueIsSentBack() {
+        MonthPicker monthPicker = new MonthPicker(YearMonth.of(2024, 5));
+        monthPicker.setMax(YearMonth.of(2024, 12));
+        ui.add(monthPicker);
+        monthPicker.setConsolidatedSync(true);
+        collectPropertyChanges(monthPicker);
+
+        fireClientState(monthPicker, "2025-01", false);
+
+        assertEquals(YearMonth.of(2024, 5), monthPicker.getValue());
+        assertTrue(collectPropertyChanges(monthPicker).containsAll(List.of("invalid", "value")));
+        assertEquals("2024-05", monthPicker.getElement().getProperty("value"));
+    }
+
+    @Test
+    public void clientTimings_measuredOnlyWhileListening() {
+        TestSessions.attach(ui);
+        MonthPicker monthPicker = new MonthPicker();
+        ui.add(monthPicker);
+        ElementListenerMap listeners = monthPicker.getElement().getNode()
+                .getFeature(ElementListenerMap.class);
+        List<ClientTiming> timings = new ArrayList<>();
+        Registration registration = monthPicker
+                .addClientTimingsListener(e -> timings.addAll(e.getTimings()));
+        assertEquals(List.of("vcf-month-picker-timings"), pendingEvents());
+        assertFalse(listeners.getExpressions("vcf-month-picker-timings").isEmpty());
+
+        ObjectNode data = JacksonUtils.createObjectNode();
+        ArrayNode batch = data.putArray("event.detail.timings");
+        batch.addObject().put("type", "overlay-open").put("millis", 12.5);
+        batch.addObject().put("type", "unknown").put("millis", 1);
+        batch.addObject().put("type", "first-render").put("millis", 40);
+        listeners.fireEvent(
+                new DomEvent(monthPicker.getElement(), "vcf-month-picker-timings", data));
+
+        assertEquals(List.of(new ClientTiming(ClientTiming.Type.OVERLAY_OPEN, 12.5),
+                new ClientTiming(ClientTiming.Type.FIRST_RENDER, 40)), timings);
+
+        monthPicker.setClientTimingsInterval(2000);
+        assertEquals(2000, monthPicker.getClientTimingsInterval());
+        assertEquals(List.of("vcf-month-picker-timings"), pendingEvents());
+
+        registration.remove();
+        assertEquals(List.of("stop"), pendingEvents());
+        assertTrue(listeners.getExpressions("vcf-month-picker-timings").isEmpty());
+    }
+
+    @Test
+    public void clientTimings_malformedBatch_isEmpty() {
+        MonthPicker monthPicker = new MonthPicker();
+        ui.add(monthPicker);
+        ElementListenerMap listeners = monthPicker.getElement().getNode()
+                .getFeature(ElementListenerMap.class);
+        List<List<ClientTiming>> batches = new ArrayList<>();
+        monthPicker.addClientTimingsListener(e -> batches.add(e.getTimings()));
+
+        ObjectNode missing = JacksonUtils.createObjectNode();
+        ObjectNode notAnArray = JacksonUtils.createObjectNode();
+        notAnArray.put("event.detail.timings", "overlay-open");
+        ObjectNode invalidMillis = JacksonUtils.createObjectNode();
+        invalidMillis.putArray("event.detail.timings").add("overlay-open").addObject()
+                .put("type", "overlay-open").put("millis", "fast");
+        for (ObjectNode data : List.of(missing, notAnArray, invalidMillis)) {
+            listeners.fireEvent(
+                    new DomEvent(monthPicker.getElement(), "vcf-month-picker-timings", data));
+        }
+
+        assertEquals(List.of(List.of(), List.of(), List.of()), batches);
+    }
+
+    @Test
+    public void lazyLoading_requestsModuleOncePerUi() {
+        TestSessions.attach(ui);
+        ui.add(new MonthPicker());
+        assertFalse(ui.getInternals().containsPendingJavascript("vcfMonthPicker.load"));
+
+        AppShellSettings settings = new AppShellSettings();
+        MonthPicker.enableLazyLoading(settings);
+        try {
+            assertTrue(MonthPicker.isLazyLoading());
+            ui.add(new MonthPicker(), new MonthPicker());
+            assertEquals(1, ui.getInternals().dumpPendingJavaScriptInvocations().stream()
+                    .filter(invocation -> invocation.getInvocation().getExpression()
+                            .contains("vcfMonthPicker.load"))
+                    .count());
+
+            ui.add(new MonthPicker());
+            assertFalse(ui.getInternals().containsPendingJavascript("vcfMonthPicker.load"));
+        } finally {
+            MonthPicker.setLazyLoading(false);
+        }
+    }
+
+    /**
+     * Returns the pending JavaScript invocations, as the event whose measuring they start or as
+     * {@code stop}.
+     */
+    private List<String> pendingEvents() {
+        flush();
+        return ui.getInternals().dumpPendingJavaScriptInvocations().stream()
+                .map(invocation -> invocation.getInvocation().getExpression())
+                .map(expression -> expression.contains("startTimings")
+                        ? "vcf-month-picker-timings" : "stop")
+                .toList();
+    }
+
+    /**
+     * Returns the names of the properties of the picker that have been changed on the server since
+     * the last call.
+     */
+    private List<String> collectPropertyChanges(MonthPicker monthPicker) {
+        List<String> properties = new ArrayList<>();
+        ui.getInternals().getStateTree().collectChanges(change -> {
+            if (change instanceof MapPutChange put
+                    && change.getNode() == monthPicker.getElement().getNode()
+                    && put.getFeature() == ElementPropertyMap.class) {
+                properties.add(put.getKey());
+            }
+        });
+        return properties;
+    }
+
+    private static void fireClientState(MonthPicker monthPicker, String value, boolean opened) {
+        ObjectNode data = JacksonUtils.createObjectNode();
+        data.put("element.value", value);
+        data.put("element.opened", opened);
+        monthPicker.getElement().getNode().getFeature(ElementListenerMap.class)
+                .fireEvent(new DomEvent(monthPicker.getElement(), "value-changed", data));
+    }
+
+    private void flush() {
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+    }
+
+    private static void setValueFromClient(MonthPicker monthPicker, String value)
+            throws PropertyChangeDeniedException {
+        monthPicker.getElement().getNode().getFeature(ElementPropertyMap.class)
+                .deferredUpdateFromClient("value", value).run();
+    }
+
 }
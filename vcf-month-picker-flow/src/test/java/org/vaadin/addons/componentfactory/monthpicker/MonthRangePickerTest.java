@@ -0,0 +1,222 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import com.vaadin.flow.dom.DomEvent;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import net.jcip.annotations.NotThreadSafe;
+import org.junit.Test;
+import tools.jackson.databind.node.ObjectNode;
+
+@NotThreadSafe
+public class MonthRangePickerTest {
+
+    @Test
+    public void edits_commitRangeWithSingleValueChange() {
+        MonthRangePicker picker = new MonthRangePicker();
+        List<MonthRange> values = new ArrayList<>();
+        picker.addValueChangeListener(e -> {
+            assertTrue(e.isFromClient());
+            values.add(e.getValue());
+        });
+
+        commitFromClient(picker.getStartPicker(), "2025-01");
+        commitFromClient(picker.getEndPicker(), "2025-06");
+
+        assertEquals(List.of(MonthRange.of(YearMonth.of(2025, 1), null),
+                MonthRange.of(YearMonth.of(2025, 1), YearMonth.of(2025, 6))), values);
+        assertEquals(YearMonth.of(2025, 6), picker.getEndPicker().getValue());
+        assertEquals("2025-06", picker.getEndPicker().getElement().getProperty("value"));
+    }
+
+    @Test
+    public void edits_validatedAndCountedOnce() {
+        StripedMonthPickerMetrics metrics = StripedMonthPickerMetrics.install();
+        try {
+            MonthRangePicker picker = new MonthRangePicker(
+                    MonthRange.of(YearMonth.of(2025, 1), YearMonth.of(2025, 6)));
+            List<Integer> queriedYears = new ArrayList<>();
+            picker.setAvailabilityValidator(year -> {
+                queriedYears.add(year);
+                return MonthAvailabilityValidator.ALL_MONTHS;
+            });
+            metrics.reset();
+
+            commitFromClient(picker.getEndPicker(), "2025-09");
+
+            assertEquals(1, metrics.getValueSyncs());
+            assertEquals(1, metrics.getClientValueChanges());
+            assertEquals(0, metrics.getProgrammaticValueChanges());
+            assertEquals(0, metrics.getValueRejections());
+            // only the edited picker validates its month
+            assertEquals(List.of(2025), queriedYears);
+        } finally {
+            StripedMonthPickerMetrics.uninstall();
+        }
+    }
+
+    @Test
+    public void startAfterEnd_isRolledBack() {
+        MonthRangePicker picker = new MonthRangePicker(
+                MonthRange.of(YearMonth.of(2025, 1), YearMonth.of(2025, 6)));
+        List<MonthRange> values = new ArrayList<>();
+        picker.addValueChangeListener(e -> values.add(e.getValue()));
+
+        commitFromClient(picker.getStartPicker(), "2025-09");
+
+        assertTrue(values.isEmpty());
+        assertTrue(picker.isInvalid());
+        assertTrue(picker.getStartPicker().isInvalid());
+        assertEquals(MonthRange.of(YearMonth.of(2025, 1), YearMonth.of(2025, 6)), picker.getValue());
+        assertEquals(YearMonth.of(2025, 1), picker.getStartPicker().getValue());
+        assertEquals("2025-01", picker.getStartPicker().getElement().getProperty("value"));
+
+        commitFromClient(picker.getEndPicker(), "2025-12");
+
+        assertFalse(picker.isInvalid());
+        assertEquals(List.of(MonthRange.of(YearMonth.of(2025, 1), YearMonth.of(2025, 12))), values);
+    }
+
+    @Test
+    public void unavailableMonth_isRejectedByItsPicker() {
+        MonthRangePicker picker = new MonthRangePicker(
+                MonthRange.of(YearMonth.of(2025, 1), YearMonth.of(2025, 6)));
+        picker.setMax(YearMonth.of(2025, 10));
+        List<MonthRange> values = new ArrayList<>();
+        picker.addValueChangeListener(e -> values.add(e.getValue()));
+
+        commitFromClient(picker.getEndPicker(), "2025-12");
+
+        assertTrue(values.isEmpty());
+        assertTrue(picker.isInvalid());
+        assertTrue(picker.getEndPicker().isInvalid());
+        assertFalse(picker.getStartPicker().isInvalid());
+        assertEquals("2025-06", picker.getEndPicker().getElement().getProperty("value"));
+        assertEquals(MonthRange.of(YearMonth.of(2025, 1), YearMonth.of(2025, 6)), picker.getValue());
+
+        commitFromClient(picker.getEndPicker(), "2025-09");
+
+        assertFalse(picker.isInvalid());
+        assertEquals(List.of(MonthRange.of(YearMonth.of(2025, 1), YearMonth.of(2025, 9))), values);
+    }
+
+    @Test
+    public void unparseableMonth_marksPickerInvalid() {
+        MonthRangePicker picker = new MonthRangePicker(
+                MonthRange.of(YearMonth.of(2025, 1), YearMonth.of(2025, 6)));
+        List<MonthRange> values = new ArrayList<>();
+        picker.addValueChangeListener(e -> values.add(e.getValue()));
+
+        commitFromClient(picker.getStartPicker(), "not a month");
+
+        assertTrue(values.isEmpty());
+        assertTrue(picker.isInvalid());
+        assertTrue(picker.getStartPicker().isInvalid());
+        assertEquals(YearMonth.of(2025, 1), picker.getStartPicker().getValue());
+    }
+
+    @Test
+    public void edits_areReportedAsFromClientByPickers() {
+        MonthRangePicker picker = new MonthRangePicker();
+        List<Boolean> fromClient = new ArrayList<>();
+        picker.getStartPicker().addValueChangeListener(e -> fromClient.add(e.isFromClient()));
+
+        commitFromClient(picker.getStartPicker(), "2025-01");
+        picker.setValue(MonthRange.empty());
+
+        assertEquals(List.of(true, false), fromClient);
+    }
+
+    @Test
+    public void readOnly_forwardedToPickersAndIgnoresEdits() {
+        MonthRangePicker picker = new MonthRangePicker(
+                MonthRange.of(YearMonth.of(2025, 1), YearMonth.of(2025, 6)));
+        List<MonthRange> values = new ArrayList<>();
+        picker.addValueChangeListener(e -> values.add(e.getValue()));
+
+        picker.setReadOnly(true);
+
+        assertTrue(picker.isReadOnly());
+        assertTrue(picker.getStartPicker().isReadOnly());
+        assertTrue(picker.getEndPicker().isReadOnly());
+
+        commitFromClient(picker.getEndPicker(), "2025-09");
+
+        assertTrue(values.isEmpty());
+        assertEquals(YearMonth.of(2025, 6), picker.getEndPicker().getValue());
+    }
+
+    @Test
+    public void requiredIndicator_forwardedToPickers() {
+        MonthRangePicker picker = new MonthRangePicker();
+
+        picker.setRequiredIndicatorVisible(true);
+
+        assertTrue(picker.isRequiredIndicatorVisible());
+        assertTrue(picker.getStartPicker().isRequiredIndicatorVisible());
+        assertTrue(picker.getEndPicker().isRequiredIndicatorVisible());
+    }
+
+    @Test
+    public void configuration_forwardedToPickers() {
+        MonthRangePicker picker = new MonthRangePicker();
+
+        picker.setStartLabel("From");
+        picker.setEndLabel("To");
+        picker.setMin(YearMonth.of(2024, 3));
+
+        assertEquals("From", picker.getStartPicker().getLabel());
+        assertEquals("To", picker.getEndLabel());
+        assertEquals(YearMonth.of(2024, 3), picker.getEndPicker().getMin());
+    }
+
+    @Test
+    public void setValue_updatesPickers() {
+        MonthRangePicker picker = new MonthRangePicker();
+
+        picker.setValue(MonthRange.of(YearMonth.of(2024, 3), YearMonth.of(2024, 4)));
+        assertEquals("2024-03", picker.getStartPicker().getElement().getProperty("value"));
+        assertEquals("2024-04", picker.getEndPicker().getElement().getProperty("value"));
+
+        picker.setValue(null);
+        assertEquals(MonthRange.empty(), picker.getValue());
+        assertEquals(null, picker.getStartPicker().getValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void monthRange_startAfterEnd_throws() {
+        MonthRange.of(YearMonth.of(2025, 2), YearMonth.of(2025, 1));
+    }
+
+    /**
+     * Fires the commit event of the given picker, which carries the edited month as event data.
+     */
+    static void commitFromClient(MonthPicker picker, String value) {
+        Element element = picker.getElement();
+        ObjectNode data = JacksonUtils.createObjectNode();
+        data.put("element.value", value);
+        element.getNode().getFeature(ElementListenerMap.class)
+                .fireEvent(new DomEvent(element, "value-changed", data));
+    }
+}
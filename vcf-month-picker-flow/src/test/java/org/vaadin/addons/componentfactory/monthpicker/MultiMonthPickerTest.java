@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import com.vaadin.flow.internal.nodefeature.ElementPropertyMap;
+import com.vaadin.flow.internal.nodefeature.PropertyChangeDeniedException;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
+
+public class MultiMonthPickerTest {
+
+    @Test
+    public void pickedMonths_areToggled() throws PropertyChangeDeniedException {
+        MultiMonthPicker picker = new MultiMonthPicker();
+        picker.setPlaceholder("Select months");
+        picker.seti18n(new MonthPickerI18n().setFormat("MM/YYYY"));
+        List<Set<YearMonth>> values = new ArrayList<>();
+        picker.addValueChangeListener(e -> values.add(e.getValue()));
+
+        pickFromClient(picker, "2025-03");
+        pickFromClient(picker, "2025-01");
+
+        assertEquals(YearMonthSet.of(YearMonth.of(2025, 1), YearMonth.of(2025, 3)), picker.getValue());
+        assertEquals("01/2025, 03/2025", picker.getSummary());
+        assertEquals("Select months", picker.getPicker().getElement().getProperty("placeholder"));
+        assertEquals("", picker.getPicker().getElement().getProperty("value"));
+
+        pickFromClient(picker, "2025-03");
+
+        assertEquals(YearMonthSet.of(YearMonth.of(2025, 1)), picker.getValue());
+        assertEquals(3, values.size());
+    }
+
+    @Test
+    public void clear_emptiesSummary() throws PropertyChangeDeniedException {
+        MultiMonthPicker picker = new MultiMonthPicker(Set.of(YearMonth.of(2025, 3)));
+        picker.setPlaceholder("Select months");
+
+        pickFromClient(picker, "2025-04");
+        picker.clear();
+
+        assertTrue(picker.getValue().isEmpty());
+        assertEquals("", picker.getSummary());
+        assertEquals("Select months", picker.getPlaceholder());
+    }
+
+    @Test
+    public void readOnly_forwardedToPickerAndIgnoresPicks() throws PropertyChangeDeniedException {
+        MultiMonthPicker picker = new MultiMonthPicker(Set.of(YearMonth.of(2025, 3)));
+        List<Set<YearMonth>> values = new ArrayList<>();
+        picker.addValueChangeListener(e -> values.add(e.getValue()));
+
+        picker.setReadOnly(true);
+
+        assertTrue(picker.isReadOnly());
+        assertTrue(picker.getPicker().isReadOnly());
+
+        pickFromClient(picker, "2025-04");
+
+        assertTrue(values.isEmpty());
+        assertEquals(YearMonthSet.of(YearMonth.of(2025, 3)), picker.getValue());
+        assertEquals(null, picker.getPicker().getValue());
+
+        picker.setReadOnly(false);
+        pickFromClient(picker, "2025-04");
+
+        assertEquals(1, values.size());
+    }
+
+    @Test
+    public void requiredIndicator_forwardedToPicker() {
+        MultiMonthPicker picker = new MultiMonthPicker();
+
+        picker.setRequiredIndicatorVisible(true);
+
+        assertTrue(picker.isRequiredIndicatorVisible());
+        assertTrue(picker.getPicker().isRequiredIndicatorVisible());
+    }
+
+    @Test
+    public void pickedMonthWithExtremeYear_isIgnored() throws PropertyChangeDeniedException {
+        MultiMonthPicker picker = new MultiMonthPicker();
+
+        pickFromClient(picker, "+999999999-12");
+
+        assertTrue(picker.getValue().isEmpty());
+        assertFalse(picker.getValue().contains(YearMonth.of(Year.MAX_VALUE, 12)));
+    }
+
+    @Test
+    public void pickedMonthFarFromSelection_isIgnored() throws PropertyChangeDeniedException {
+        MultiMonthPicker picker = new MultiMonthPicker();
+        pickFromClient(picker, "2024-05");
+
+        pickFromClient(picker, "+100000-01");
+        pickFromClient(picker, "-10000-01");
+
+        assertEquals(YearMonthSet.of(YearMonth.of(2024, 5)), picker.getValue());
+        assertEquals(null, picker.getPicker().getValue());
+    }
+
+    @Test
+    public void setValue_convertsToYearMonthSet() {
+        MultiMonthPicker picker = new MultiMonthPicker();
+
+        picker.setValue(Set.of(YearMonth.of(2025, 3)));
+        assertEquals(YearMonthSet.of(YearMonth.of(2025, 3)), picker.getValue());
+
+        picker.setValue(null);
+        assertTrue(picker.getValue().isEmpty());
+    }
+
+    @Test
+    public void labelAndHelper_areSetOnPicker() {
+        MultiMonthPicker picker = new MultiMonthPicker();
+
+        picker.setLabel("Billing months");
+        picker.setHelperText("Pick several months");
+
+        assertEquals("Billing months", picker.getPicker().getElement().getProperty("label"));
+        assertEquals("Pick several months", picker.getHelperText());
+        assertEquals("polite", picker.getElement().getChild(1).getAttribute("aria-live"));
+    }
+
+    private static void pickFromClient(MultiMonthPicker picker, String value)
+            throws PropertyChangeDeniedException {
+        picker.getPicker().getElement().getNode().getFeature(ElementPropertyMap.class)
+                .deferredUpdateFromClient("value", value).run();
+    }
+}
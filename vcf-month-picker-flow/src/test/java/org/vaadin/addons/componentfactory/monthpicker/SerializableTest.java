@@ -13,10 +13,22 @@
  */
 package org.vaadin.addons.componentfactory.monthpicker;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.testutil.ClassesSerializableTest;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.stream.Stream;
+import org.junit.Test;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
 
 public class SerializableTest extends ClassesSerializableTest {
 
@@ -40,4 +52,115 @@ public class SerializableTest extends ClassesSerializableTest {
                 "com\\.vaadin\\..*"
         ));
     }
+
+    @Test
+    public void localeI18n_isSerializedByLocale() throws Throwable {
+        MonthPickerI18n i18n = MonthPickerI18n.forLocale(Locale.GERMAN).setFormat("MM.YYYY");
+
+        MonthPickerI18n copy = serializeAndDeserialize(i18n);
+
+        assertEquals(i18n.contentKey(), copy.contentKey());
+        assertSame(i18n.getMonthNames(), copy.getMonthNames());
+        assertSize(i18n, 150);
+    }
+
+    @Test
+    public void lruCache_keepsEvictionAfterDeserialization() throws Throwable {
+        LruCache<Integer, String> cache = new LruCache<>(2);
+        cache.putIfAbsent(1, "one");
+        cache.putIfAbsent(2, "two");
+
+        LruCache<Integer, String> copy = serializeAndDeserialize(cache);
+        copy.get(1);
+        copy.putIfAbsent(3, "three");
+
+        assertEquals(2, copy.size());
+        assertEquals("one", copy.get(1));
+        assertEquals(null, copy.get(2));
+    }
+
+    @Test
+    public void customI18n_isSerializedInline() throws Throwable {
+        MonthPickerI18n i18n = new MonthPickerI18n()
+                .setMonthLabels(new ArrayList<>(List.of("Ene", "Feb", "Mar", "Abr", "May",
+                        "Jun", "Jul", "Ago", "Sep", "Oct", "Nov", "Dic")))
+                .setFormats("MM/YYYY", "MM.YYYY");
+
+        MonthPickerI18n copy = serializeAndDeserialize(i18n);
+
+        assertEquals(i18n.contentKey(), copy.contentKey());
+        copy.getMonthLabels().set(0, "Enero");
+        assertSize(i18n, 240);
+    }
+
+    @Test
+    public void templateI18n_isRestored() throws Throwable {
+        MonthPickerTemplate template = MonthPickerTemplate.builder()
+                .seti18n(MonthPickerI18n.forLocale(Locale.FRENCH).setFormat("MM/YYYY")).build();
+
+        MonthPickerI18n copy = serializeAndDeserialize(template).getI18n();
+
+        assertEquals(template.getI18n().contentKey(), copy.contentKey());
+        assertEquals(MonthPicker.getI18nJsonObject(template.getI18n()),
+                MonthPicker.getI18nJsonObject(copy));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void templateI18n_staysUnmodifiable() throws Throwable {
+        MonthPickerTemplate template = MonthPickerTemplate.builder()
+                .seti18n(MonthPickerI18n.forLocale(Locale.FRENCH).setFormat("MM/YYYY")).build();
+
+        serializeAndDeserialize(template).getI18n().setFormat("YYYY");
+    }
+
+    @Test
+    public void monthRange_isSerializedPacked() throws Throwable {
+        MonthRange range = MonthRange.of(YearMonth.of(2024, 1), null);
+
+        assertEquals(range, serializeAndDeserialize(range));
+        assertSize(range, 138);
+    }
+
+    @Test
+    public void monthRange_extremeYears_roundTrip() throws Throwable {
+        MonthRange range = MonthRange.of(YearMonth.of(-999_999_999, 1),
+                YearMonth.of(999_999_999, 12));
+
+        assertEquals(range, serializeAndDeserialize(range));
+    }
+
+    @Test
+    public void yearMonthSet_isSerializedAsBitmask() throws Throwable {
+        YearMonthSet set = YearMonthSet.of(YearMonth.of(2024, 12), YearMonth.of(2025, 1));
+
+        assertEquals(set, serializeAndDeserialize(set));
+        assertEquals(YearMonthSet.empty(), serializeAndDeserialize(YearMonthSet.empty()));
+        assertSize(set, 160);
+    }
+
+    @Test
+    public void monthPicker_localeI18nAddsLittleToSerializedSize() throws IOException {
+        MonthPicker picker = new MonthPicker(YearMonth.of(2024, 5));
+        picker.seti18n(new MonthPickerI18n());
+        int withEmptyI18n = serializedSize(picker);
+
+        picker.seti18n(MonthPickerI18n.forLocale(Locale.GERMAN));
+
+        int added = serializedSize(picker) - withEmptyI18n;
+        assertTrue("Locale month names add " + added + " bytes to a picker", added <= 20);
+    }
+
+    private static void assertSize(Object object, int maxBytes) throws IOException {
+        int size = serializedSize(object);
+        assertTrue(object.getClass().getSimpleName() + " is serialized to " + size + " bytes",
+                size <= maxBytes);
+    }
+
+    private static int serializedSize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.size();
+    }
 }
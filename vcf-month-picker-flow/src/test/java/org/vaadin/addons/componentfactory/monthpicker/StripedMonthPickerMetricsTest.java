@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.dom.DomEvent;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.internal.JacksonUtils;
+import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
+import com.vaadin.flow.internal.nodefeature.ElementPropertyMap;
+import com.vaadin.flow.internal.nodefeature.PropertyChangeDeniedException;
+import java.lang.management.ManagementFactory;
+import java.time.YearMonth;
+import java.util.Locale;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import net.jcip.annotations.NotThreadSafe;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.vaadin.addons.componentfactory.monthpicker.MonthPicker.MonthPickerI18n;
+import tools.jackson.databind.node.ObjectNode;
+
+@NotThreadSafe
+public class StripedMonthPickerMetricsTest {
+
+    private UI ui;
+
+    private StripedMonthPickerMetrics metrics;
+
+    @Before
+    public void setUp() {
+        ui = new UI();
+        UI.setCurrent(ui);
+        metrics = StripedMonthPickerMetrics.install();
+    }
+
+    @After
+    public void tearDown() {
+        StripedMonthPickerMetrics.uninstall();
+        UI.setCurrent(null);
+    }
+
+    @Test
+    public void install_setsListenerAndRegistersMBean() throws Exception {
+        assertSame(metrics, MonthPickerMetrics.getListener());
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(StripedMonthPickerMetrics.OBJECT_NAME);
+        assertTrue(server.isRegistered(name));
+
+        new MonthPicker().setValue(YearMonth.of(2024, 5));
+        assertEquals(1L, server.getAttribute(name, "ProgrammaticValueChanges"));
+
+        StripedMonthPickerMetrics.uninstall();
+        assertNull(MonthPickerMetrics.getListener());
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    public void values_countedBySource() throws PropertyChangeDeniedException {
+        MonthPicker monthPicker = new MonthPicker();
+        monthPicker.setMaxYear(2024);
+
+        monthPicker.setValue(YearMonth.of(2024, 1));
+        monthPicker.setValue(YearMonth.of(2024, 1));
+        setValueFromClient(monthPicker, "2024-02");
+        setValueFromClient(monthPicker, "2025-01");
+
+        assertEquals(1, metrics.getProgrammaticValueChanges());
+        assertEquals(1, metrics.getClientValueChanges());
+        assertEquals(2, metrics.getValueSyncs());
+        assertEquals(1, metrics.getValueRejections());
+
+        metrics.reset();
+        assertEquals(0, metrics.getValueSyncs());
+        assertEquals(0, metrics.getProgrammaticValueChanges());
+    }
+
+    @Test
+    public void consolidatedSync_countedOncePerEvent() {
+        MonthPicker monthPicker = new MonthPicker();
+        monthPicker.setMaxYear(2024);
+        monthPicker.setConsolidatedSync(true);
+        monthPicker.addOpenedChangeListener(e -> {
+        });
+
+        fireClientState(monthPicker, "2024-02", true);
+        fireClientState(monthPicker, "2025-01", false);
+        fireClientState(monthPicker, "not a month", false);
+
+        assertEquals(3, metrics.getValueSyncs());
+        assertEquals(1, metrics.getClientValueChanges());
+        assertEquals(0, metrics.getProgrammaticValueChanges());
+        assertEquals(2, metrics.getValueRejections());
+        assertEquals(2, metrics.getOpenedChanges());
+    }
+
+    @Test
+    public void openedChanges_countedWhileSynchronized() throws PropertyChangeDeniedException {
+        MonthPicker monthPicker = new MonthPicker();
+        monthPicker.addOpenedChangeListener(e -> {
+        });
+
+        setOpenedFromClient(monthPicker, true);
+        setOpenedFromClient(monthPicker, false);
+
+        assertEquals(2, metrics.getOpenedChanges());
+    }
+
+    @Test
+    public void i18nSerializations_countedWithJsonLength() {
+        MonthPicker monthPicker = new MonthPicker();
+        ui.add(monthPicker);
+        MonthPickerI18n i18n = MonthPickerI18n.forLocale(Locale.GERMAN);
+        monthPicker.seti18n(i18n);
+        monthPicker.seti18n(i18n);
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+
+        assertEquals(1, metrics.getI18nSerializations());
+        assertEquals(MonthPicker.getI18nJsonObject(i18n).toString().length(),
+                metrics.getI18nSerializedChars());
+    }
+
+    private static void setValueFromClient(MonthPicker monthPicker, String value)
+            throws PropertyChangeDeniedException {
+        monthPicker.getElement().getNode().getFeature(ElementPropertyMap.class)
+                .deferredUpdateFromClient("value", value).run();
+    }
+
+    private static void fireClientState(MonthPicker monthPicker, String value, boolean opened) {
+        ObjectNode data = JacksonUtils.createObjectNode();
+        data.put("element.value", value);
+        data.put("element.opened", opened);
+        monthPicker.getElement().getNode().getFeature(ElementListenerMap.class)
+                .fireEvent(new DomEvent(monthPicker.getElement(), "value-changed", data));
+    }
+
+    private static void setOpenedFromClient(MonthPicker monthPicker, boolean opened)
+            throws PropertyChangeDeniedException {
+        Element element = monthPicker.getElement();
+        element.getNode().getFeature(ElementPropertyMap.class)
+                .deferredUpdateFromClient("opened", opened).run();
+        element.getNode().getFeature(ElementListenerMap.class).fireEvent(new DomEvent(element,
+                "vcf-month-picker-opened-changed", JacksonUtils.createObjectNode()));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.function.DeploymentConfiguration;
+import com.vaadin.flow.server.VaadinServletService;
+import com.vaadin.flow.server.VaadinSession;
+import java.lang.reflect.Proxy;
+
+/**
+ * Lightweight sessions for tests that need a UI with a session, e.g. to inspect pending
+ * JavaScript invocations. The sessions are always locked by the current thread and belong to a
+ * service in production mode without a servlet.
+ */
+final class TestSessions {
+
+    private TestSessions() {
+    }
+
+    /**
+     * Creates a service in production mode, whose configuration returns the default value of every
+     * other setting.
+     */
+    static VaadinServletService createService() {
+        DeploymentConfiguration configuration = (DeploymentConfiguration) Proxy.newProxyInstance(
+                DeploymentConfiguration.class.getClassLoader(),
+                new Class<?>[] { DeploymentConfiguration.class }, (proxy, method, args) -> {
+                    Class<?> type = method.getReturnType();
+                    if ("isProductionMode".equals(method.getName())) {
+                        return true;
+                    } else if (type == boolean.class) {
+                        return false;
+                    } else if (type == int.class) {
+                        return 0;
+                    } else if ("getApplicationOrSystemProperty".equals(method.getName())) {
+                        return args[1];
+                    }
+                    return null;
+                });
+        return new VaadinServletService(null, configuration);
+    }
+
+    /**
+     * Creates a session of the given service that is always locked.
+     */
+    static VaadinSession createSession(VaadinServletService service) {
+        return new VaadinSession(service) {
+            @Override
+            public boolean hasLock() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Sets a new session of a new service as the session of the given UI.
+     */
+    static void attach(UI ui) {
+        ui.getInternals().setSession(createSession(createService()));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import org.junit.Test;
+
+public class YearMonthCodecTest {
+
+    @Test
+    public void pack_consecutiveMonths_haveConsecutiveValues() {
+        assertEquals(2020 * 12, YearMonthCodec.pack(YearMonth.of(2020, 1)));
+        assertEquals(YearMonthCodec.pack(2020, 12) + 1, YearMonthCodec.pack(2021, 1));
+        assertEquals(YearMonthCodec.pack(-1, 12) + 1, YearMonthCodec.pack(0, 1));
+    }
+
+    @Test
+    public void unpack_reversesPack() {
+        for (YearMonth value : new YearMonth[] { YearMonth.of(2020, 6), YearMonth.of(0, 1),
+                YearMonth.of(-5, 12), YearMonth.of(9999, 12) }) {
+            int packed = YearMonthCodec.pack(value);
+            assertEquals(value, YearMonthCodec.unpack(packed));
+            assertEquals(value.getYear(), YearMonthCodec.getYear(packed));
+            assertEquals(value.getMonthValue(), YearMonthCodec.getMonth(packed));
+        }
+    }
+
+    @Test
+    public void packExtended_extremeYears_doesNotOverflow() {
+        assertEquals(YearMonthCodec.pack(2020, 6), YearMonthCodec.packExtended(YearMonth.of(2020, 6)));
+        assertEquals(Year.MAX_VALUE * 12L + 11,
+                YearMonthCodec.packExtended(YearMonth.of(Year.MAX_VALUE, 12)));
+        assertEquals(Year.MIN_VALUE * 12L,
+                YearMonthCodec.packExtended(YearMonth.of(Year.MIN_VALUE, 1)));
+    }
+
+    @Test
+    public void unpackExtended_reversesPackExtended() {
+        for (YearMonth value : List.of(YearMonth.of(2020, 6), YearMonth.of(-5, 3),
+                YearMonth.of(Year.MAX_VALUE, 12), YearMonth.of(Year.MIN_VALUE, 1))) {
+            assertEquals(value, YearMonthCodec.unpackExtended(YearMonthCodec.packExtended(value)));
+        }
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void pack_extremeYear_throws() {
+        YearMonthCodec.pack(YearMonth.of(Year.MAX_VALUE, 12));
+    }
+
+    @Test
+    public void parse_isoValues() {
+        assertNull(YearMonthCodec.parse(null));
+        assertNull(YearMonthCodec.parse(""));
+        assertEquals(YearMonth.of(2020, 6), YearMonthCodec.parse("2020-06"));
+        assertEquals(YearMonth.of(10000, 1), YearMonthCodec.parse("+10000-01"));
+        assertEquals(YearMonth.of(-1, 3), YearMonthCodec.parse("-0001-03"));
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void parse_invalidMonth_throws() {
+        YearMonthCodec.parse("2020-13");
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void parse_invalidValue_throws() {
+        YearMonthCodec.parse("2020/06");
+    }
+
+    @Test
+    public void format_isoValues() {
+        assertEquals("", YearMonthCodec.format(null));
+        assertEquals("2020-06", YearMonthCodec.format(YearMonth.of(2020, 6)));
+    }
+
+    @Test
+    public void parseAndFormat_withinTable_returnSharedInstances() {
+        YearMonth parsed = YearMonthCodec.parse("2020-06");
+        assertSame(parsed, YearMonthCodec.parse(new String("2020-06")));
+        assertSame(parsed, YearMonthCodec.unpack(YearMonthCodec.pack(2020, 6)));
+
+        String formatted = YearMonthCodec.format(YearMonth.of(2020, 6));
+        assertSame(formatted, YearMonthCodec.format(YearMonth.of(2020, 6)));
+    }
+
+    @Test
+    public void parseAndFormat_outsideTable() {
+        int year = YearMonthCodec.TABLE_MAX_YEAR + 1;
+        YearMonth value = YearMonth.of(year, 2);
+
+        assertEquals(value, YearMonthCodec.parse(value.toString()));
+        assertEquals(value.toString(), YearMonthCodec.format(value));
+        assertEquals(value, YearMonthCodec.unpack(YearMonthCodec.pack(value)));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 - 2026 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.vaadin.addons.componentfactory.monthpicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+
+public class YearMonthSetTest {
+
+    @Test
+    public void withAndWithout_keepMonthsSorted() {
+        YearMonthSet set = YearMonthSet.empty().with(YearMonth.of(2025, 3))
+                .with(YearMonth.of(2023, 12)).with(YearMonth.of(2025, 1));
+
+        assertEquals(3, set.size());
+        assertEquals(List.of(YearMonth.of(2023, 12), YearMonth.of(2025, 1), YearMonth.of(2025, 3)),
+                new ArrayList<>(set));
+        assertEquals(YearMonth.of(2023, 12), set.first());
+        assertEquals(YearMonth.of(2025, 3), set.last());
+        assertTrue(set.contains(YearMonth.of(2025, 1)));
+        assertFalse(set.contains(YearMonth.of(2025, 2)));
+
+        YearMonthSet removed = set.without(YearMonth.of(2023, 12));
+        assertEquals(List.of(YearMonth.of(2025, 1), YearMonth.of(2025, 3)), new ArrayList<>(removed));
+        assertSame(removed, removed.without(YearMonth.of(2000, 1)));
+        assertSame(YearMonthSet.empty(),
+                removed.without(YearMonth.of(2025, 1)).without(YearMonth.of(2025, 3)));
+    }
+
+    @Test
+    public void toggle() {
+        YearMonthSet set = YearMonthSet.of(YearMonth.of(2025, 3));
+
+        assertEquals(YearMonthSet.of(YearMonth.of(2025, 3), YearMonth.of(2025, 4)),
+                set.toggle(YearMonth.of(2025, 4)));
+        assertTrue(set.toggle(YearMonth.of(2025, 3)).isEmpty());
+    }
+
+    @Test
+    public void equals_otherSets() {
+        YearMonthSet set = YearMonthSet.of(YearMonth.of(2025, 3), YearMonth.of(2026, 1));
+
+        assertEquals(Set.of(YearMonth.of(2025, 3), YearMonth.of(2026, 1)), set);
+        assertEquals(set, Set.of(YearMonth.of(2025, 3), YearMonth.of(2026, 1)));
+        assertEquals(Set.of(YearMonth.of(2025, 3), YearMonth.of(2026, 1)).hashCode(), set.hashCode());
+        assertEquals(set, YearMonthSet.of(YearMonth.of(2026, 1)).with(YearMonth.of(2025, 3)));
+    }
+
+    @Test
+    public void bitmask_roundTrip() {
+        YearMonthSet set = YearMonthSet.of(YearMonth.of(2024, 12), YearMonth.of(2025, 1),
+                YearMonth.of(2025, 12));
+
+        assertEquals("2024:800801", set.toBitmask());
+        assertEquals(set, YearMonthSet.fromBitmask("2024:800801"));
+        assertEquals("", YearMonthSet.empty().toBitmask());
+        assertSame(YearMonthSet.empty(), YearMonthSet.fromBitmask(""));
+        assertEquals(YearMonthSet.of(YearMonth.of(2025, 1)), YearMonthSet.fromBitmask("2024:000001"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fromBitmask_malformed_throws() {
+        YearMonthSet.fromBitmask("2024:80");
+    }
+
+    @Test
+    public void isWithinSpan_limitedToMaxYears() {
+        YearMonthSet set = YearMonthSet.of(YearMonth.of(2024, 5));
+        YearMonth lastWithinSpan = YearMonth.of(2024 + YearMonthSet.MAX_YEARS - 1, 12);
+
+        assertTrue(set.isWithinSpan(lastWithinSpan));
+        assertEquals(2, set.with(lastWithinSpan).size());
+        assertFalse(set.isWithinSpan(lastWithinSpan.plusMonths(1)));
+        assertFalse(set.isWithinSpan(YearMonth.of(-999_999_999, 1)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void with_farApartMonth_throws() {
+        YearMonthSet.of(YearMonth.of(2024, 5)).with(YearMonth.of(2024 + YearMonthSet.MAX_YEARS, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void of_farApartMonths_throws() {
+        YearMonthSet.of(YearMonth.of(0, 1), YearMonth.of(200_000, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fromBitmask_beyondMaxYears_throws() {
+        YearMonthSet.fromBitmask("2024:" + "001".repeat(YearMonthSet.MAX_YEARS + 1));
+    }
+}